@@ -1,5 +1,6 @@
 package mekanism.api.inventory.qio;
 
+import java.util.List;
 import java.util.function.ObjLongConsumer;
 import mekanism.api.Action;
 import mekanism.api.IFrequency;
@@ -67,4 +68,50 @@ public interface IQIOFrequency extends IFrequency {
      * @implNote Negative amounts will lead to nothing being extracted rather than causing the item to be inserted.
      */
     long massExtract(ItemStack type, long amount, Action action);
+
+    /**
+     * Attempts to insert multiple item types into this QIO Frequency as a single operation. This is more efficient than inserting each type separately as the drives
+     * only have to be updated once.
+     *
+     * @param types   Types of {@link ItemStack} to insert; these stacks will not be modified and their counts are ignored.
+     * @param amounts Amount to insert of the type at the same index in {@code types}.
+     * @param action  The action to perform, either {@link Action#EXECUTE} or {@link Action#SIMULATE}
+     *
+     * @return Amount actually inserted of the type at each index.
+     *
+     * @implNote When simulating, each insertion is simulated independently of the others, so if a type is included more than once the total may be more than would
+     * actually be inserted.
+     * @see #massInsert(ItemStack, long, Action)
+     * @since 10.6.7
+     */
+    default long[] massInsert(List<ItemStack> types, long[] amounts, Action action) {
+        long[] inserted = new long[types.size()];
+        for (int i = 0; i < inserted.length; i++) {
+            inserted[i] = massInsert(types.get(i), amounts[i], action);
+        }
+        return inserted;
+    }
+
+    /**
+     * Attempts to extract multiple item types from this QIO Frequency as a single operation. This is more efficient than extracting each type separately as the drives
+     * only have to be updated once.
+     *
+     * @param types   Types of {@link ItemStack} to extract; these stacks will not be modified and their counts are ignored.
+     * @param amounts Amount to extract of the type at the same index in {@code types}.
+     * @param action  The action to perform, either {@link Action#EXECUTE} or {@link Action#SIMULATE}
+     *
+     * @return Amount actually extracted of the type at each index.
+     *
+     * @implNote When simulating, each extraction is simulated independently of the others, so if a type is included more than once the total may be more than would
+     * actually be extracted.
+     * @see #massExtract(ItemStack, long, Action)
+     * @since 10.6.7
+     */
+    default long[] massExtract(List<ItemStack> types, long[] amounts, Action action) {
+        long[] extracted = new long[types.size()];
+        for (int i = 0; i < extracted.length; i++) {
+            extracted[i] = massExtract(types.get(i), amounts[i], action);
+        }
+        return extracted;
+    }
 }
\ No newline at end of file
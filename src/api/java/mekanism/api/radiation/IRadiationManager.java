@@ -99,6 +99,9 @@ public interface IRadiationManager {
      * Gets an unmodifiable table of the radiation sources tracked by this manager. This table keeps track of radiation sources on both a chunk and position based level.
      *
      * @return Unmodifiable table of radiation sources.
+     *
+     * @apiNote As of 10.6.7 the returned table is a snapshot rather than a live view. The magnitudes of the sources in it stay up to date, but sources that get added
+     * or removed afterward are not reflected in it, so this should be called again instead of holding onto the table.
      */
     Table<Chunk3D, GlobalPos, IRadiationSource> getRadiationSources();
 
@@ -1019,6 +1019,11 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_RETROGEN_CHUNK_QUEUED, "Queued chunk (%1$s) in %2$s for retrogen.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_DISABLED, "Retrogen is disabled, please enable it in the config.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_FAILURE, "Failed to queue any chunks for retrogen.");
+        add(MekanismLang.COMMAND_NETWORKS_PROFILE, "Toggled transmitter network profiling: %1$s.");
+        add(MekanismLang.COMMAND_NETWORKS_TOP, "Showing the %1$s most expensive of %2$s profiled networks:");
+        add(MekanismLang.COMMAND_NETWORKS_TOP_ENTRY, "%1$s. %2$s at (%3$s) in %4$s - avg: %5$s ms, p99: %6$s ms, transferred: %7$s/t");
+        add(MekanismLang.COMMAND_NETWORKS_PATH_CACHE, "Transporter path cache: %1$s/%2$s paths, %3$s hits, %4$s misses (%5$s%% hit rate), %6$s evictions, %7$s invalidations.");
+        add(MekanismLang.COMMAND_ERROR_NETWORKS_NOT_PROFILING, "Transmitter network profiling is not enabled, enable it with /mek networks profile.");
         //Tooltip stuff
         add(MekanismLang.UNKNOWN, "Unknown");
         add(MekanismLang.MODE, "Mode: %1$s");
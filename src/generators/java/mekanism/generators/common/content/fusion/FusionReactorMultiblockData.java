@@ -29,6 +29,7 @@ import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.computer.annotation.SyntheticComputerMethod;
 import mekanism.common.integration.computer.annotation.WrappingComputerMethod;
 import mekanism.common.inventory.container.sync.dynamic.ContainerSync;
+import mekanism.common.lib.EntityLookupCache;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockData;
 import mekanism.common.registries.MekanismGases;
@@ -286,7 +287,7 @@ public class FusionReactorMultiblockData extends MultiblockData {
         if (world.getRandom().nextInt() % SharedConstants.TICKS_PER_SECOND != 0) {
             return;
         }
-        List<Entity> entitiesToDie = getLevel().getEntitiesOfClass(Entity.class, deathZone);
+        List<Entity> entitiesToDie = EntityLookupCache.getEntities(world, Entity.class, deathZone);
 
         for (Entity entity : entitiesToDie) {
             entity.hurt(entity.damageSources().magic(), 50_000F);
@@ -0,0 +1,39 @@
+package mekanism;
+
+import java.io.File;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks that need registries and the mod to be loaded. These can't be run in a forked JVM like the other benchmarks, so instead they run in process from
+ * the junit environment which has the game loaded. Run via {@code gradlew testJunit -Pjmh.game} optionally passing a regex to only run matching benchmarks.
+ */
+@DisplayName("Game Benchmarks")
+@EnabledIfSystemProperty(named = GameBenchmarkRunner.INCLUDES_PROPERTY, matches = ".*")
+class GameBenchmarkRunner {
+
+    static final String INCLUDES_PROPERTY = "mekanism.jmh.includes";
+    private static final String RESULTS_PROPERTY = "mekanism.jmh.results";
+
+    @Test
+    @DisplayName("Run game benchmarks")
+    void runBenchmarks() throws RunnerException {
+        String includes = System.getProperty(INCLUDES_PROPERTY, "");
+        File results = new File(System.getProperty(RESULTS_PROPERTY, "jmh-game-results.json"));
+        results.getAbsoluteFile().getParentFile().mkdirs();
+        Options options = new OptionsBuilder()
+              .include(includes.isBlank() || includes.equals("true") ? ".*GameBenchmark.*" : includes)
+              //Don't fork, the forked JVM wouldn't have the game loaded
+              .forks(0)
+              .resultFormat(ResultFormatType.JSON)
+              .result(results.getAbsolutePath())
+              .build();
+        new Runner(options).run();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package mekanism.common.content.qio;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import mekanism.api.Action;
+import mekanism.api.security.SecurityMode;
+import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.inventory.slot.QIODriveSlot;
+import mekanism.common.lib.frequency.TileComponentFrequency;
+import mekanism.common.registries.MekanismItems;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks inserting into and extracting from a {@link QIOFrequency} backed by supermassive drives that already store the given number of item types.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QIOFrequencyGameBenchmark {
+
+    private static final int DRIVES = 8;
+
+    @Param({"100", "1000"})
+    public int types;
+
+    private QIOFrequency frequency;
+    private ItemStack[] stacks;
+    private int index;
+
+    @Setup
+    public void setup() {
+        frequency = new QIOFrequency("benchmark", UUID.randomUUID(), SecurityMode.PUBLIC);
+        BenchmarkDriveHolder holder = new BenchmarkDriveHolder(DRIVES);
+        for (int i = 0; i < DRIVES; i++) {
+            frequency.addDrive(new QIODriveKey(holder, i));
+        }
+        List<ItemStack> stored = new ArrayList<>(types);
+        for (Item item : BuiltInRegistries.ITEM) {
+            if (stored.size() == types) {
+                break;
+            } else if (item != Items.AIR) {
+                ItemStack stack = new ItemStack(item);
+                frequency.massInsert(stack, 1_000, Action.EXECUTE);
+                stored.add(stack);
+            }
+        }
+        stacks = stored.toArray(ItemStack[]::new);
+    }
+
+    @Benchmark
+    public long insertExtract() {
+        ItemStack stack = stacks[index];
+        index = (index + 1) % stacks.length;
+        //Insert and then extract the same amount so that the contents of the frequency stay the same between invocations
+        long inserted = frequency.massInsert(stack, 64, Action.EXECUTE);
+        return frequency.massExtract(stack, inserted, Action.EXECUTE);
+    }
+
+    @Benchmark
+    public long simulateInsert() {
+        ItemStack stack = stacks[index];
+        index = (index + 1) % stacks.length;
+        return frequency.massInsert(stack, 64, Action.SIMULATE);
+    }
+
+    /**
+     * Minimal drive holder that isn't in a level, so that the drive slots don't try to add themselves to a frequency, and that ignores all data updates.
+     */
+    static class BenchmarkDriveHolder implements IQIODriveHolder {
+
+        private final List<QIODriveSlot> driveSlots;
+
+        BenchmarkDriveHolder(int drives) {
+            driveSlots = new ArrayList<>(drives);
+            for (int i = 0; i < drives; i++) {
+                QIODriveSlot slot = new QIODriveSlot(this, i, () -> null, null, 0, 0);
+                slot.setStack(MekanismItems.SUPERMASSIVE_QIO_DRIVE.getItemStack());
+                driveSlots.add(slot);
+            }
+        }
+
+        @Override
+        public List<QIODriveSlot> getDriveSlots() {
+            return driveSlots;
+        }
+
+        @Override
+        public void onDataUpdate() {
+        }
+
+        @Nullable
+        @Override
+        public QIOFrequency getQIOFrequency() {
+            return null;
+        }
+
+        @Override
+        public TileComponentFrequency getFrequencyComponent() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BlockPos getBlockPos() {
+            return BlockPos.ZERO;
+        }
+
+        @Nullable
+        @Override
+        public Level getLevel() {
+            return null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package mekanism.common.content.qio;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import mekanism.api.Action;
+import mekanism.api.security.SecurityMode;
+import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.content.qio.QIOFrequencyGameBenchmark.BenchmarkDriveHolder;
+import mekanism.common.tier.QIODriveTier;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.component.CustomModelData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the item store of a {@link QIOFrequency} that is storing a large number of item types. The heap retained per type by the frequency and its drives is
+ * measured once when setting up each trial and printed to the output of the fork, so that the memory used per type can be compared as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QIOItemStoreGameBenchmark {
+
+    @Param({"10000", "50000", "200000"})
+    public int types;
+
+    private QIOFrequency frequency;
+    private ItemStack[] stacks;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        stacks = createStacks(types);
+        long before = usedMemory();
+        frequency = new QIOFrequency("benchmark", UUID.randomUUID(), SecurityMode.PUBLIC);
+        int drives = types / QIODriveTier.SUPERMASSIVE.getMaxTypes() + 1;
+        BenchmarkDriveHolder holder = new BenchmarkDriveHolder(drives);
+        for (int i = 0; i < drives; i++) {
+            frequency.addDrive(new QIODriveKey(holder, i));
+        }
+        for (ItemStack stack : stacks) {
+            frequency.massInsert(stack, 1_000, Action.EXECUTE);
+        }
+        //Note: The stacks were created before measuring, so this only includes what the frequency and its drives retain
+        System.out.printf("Retained %d bytes per type with %d types%n", (usedMemory() - before) / types, types);
+    }
+
+    /**
+     * Creates the given number of distinct item types, using the custom model data to create variants of items once we have run out of items.
+     */
+    static ItemStack[] createStacks(int types) {
+        List<Item> items = new ArrayList<>();
+        for (Item item : BuiltInRegistries.ITEM) {
+            if (item != Items.AIR) {
+                items.add(item);
+            }
+        }
+        ItemStack[] stacks = new ItemStack[types];
+        for (int i = 0; i < types; i++) {
+            ItemStack stack = new ItemStack(items.get(i % items.size()));
+            int variant = i / items.size();
+            if (variant > 0) {
+                stack.set(DataComponents.CUSTOM_MODEL_DATA, new CustomModelData(variant));
+            }
+            stacks[i] = stack;
+        }
+        return stacks;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    public long insertExtract() {
+        ItemStack stack = stacks[index];
+        index = (index + 1) % stacks.length;
+        //Insert and then extract the same amount so that the contents of the frequency stay the same between invocations
+        long inserted = frequency.massInsert(stack, 64, Action.EXECUTE);
+        return frequency.massExtract(stack, inserted, Action.EXECUTE);
+    }
+
+    @Benchmark
+    public long simulateExtract() {
+        ItemStack stack = stacks[index];
+        index = (index + 1) % stacks.length;
+        return frequency.massExtract(stack, 64, Action.SIMULATE);
+    }
+
+    @Benchmark
+    public long sumStored() {
+        long[] total = new long[1];
+        frequency.forAllHashedStored((type, count) -> total[0] += count);
+        return total[0];
+    }
+}
\ No newline at end of file
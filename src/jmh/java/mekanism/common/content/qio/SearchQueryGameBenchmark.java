@@ -0,0 +1,71 @@
+package mekanism.common.content.qio;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import net.minecraft.world.item.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks searching a large number of item types the way a QIO item viewer does, comparing testing the query against each stack with testing it against the
+ * precomputed {@link ItemSearchKeys} of each type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SearchQueryGameBenchmark {
+
+    @Param({"100000"})
+    public int types;
+
+    @Param({"iron", "@minecraft #logs", "(stone | iron) | @mekanism", "$durability"})
+    public String query;
+
+    private ItemStack[] stacks;
+    private ItemSearchKeys[] keys;
+    private ISearchQuery parsed;
+
+    @Setup
+    public void setup() {
+        stacks = QIOItemStoreGameBenchmark.createStacks(types);
+        keys = new ItemSearchKeys[types];
+        for (int i = 0; i < types; i++) {
+            keys[i] = new ItemSearchKeys(null, stacks[i]);
+            //Look up the tooltip ahead of time as well, as it would have been calculated by any previous searches for tooltips
+            keys[i].getTooltip();
+        }
+        parsed = SearchQueryParser.parse(query);
+    }
+
+    @Benchmark
+    public int testStacks() {
+        int matches = 0;
+        for (ItemStack stack : stacks) {
+            if (parsed.test(null, stack)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int testKeys() {
+        int matches = 0;
+        for (ItemSearchKeys key : keys) {
+            if (parsed.test(key)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
\ No newline at end of file
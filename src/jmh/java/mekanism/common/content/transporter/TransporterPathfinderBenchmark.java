@@ -0,0 +1,116 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks finding a path through a maze of 1,999 transporters, from one corner of the maze to a destination next to the opposite corner.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransporterPathfinderBenchmark {
+
+    private static final int WIDTH = 40;
+    private static final int DEPTH = 25;
+
+    private final LongSet transporters = new LongOpenHashSet();
+    private BlockPos start;
+    private BlockPos destination;
+
+    @Setup
+    public void setup() {
+        //Generate a perfect maze using a randomized depth first search over the cells. Cells are at even coordinates with the transporters connecting them
+        // at the odd coordinates between them, giving 2 * cells - 1 transporters
+        Random random = new Random(0);
+        boolean[][] visited = new boolean[WIDTH][DEPTH];
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{0, 0});
+        visited[0][0] = true;
+        transporters.add(BlockPos.asLong(0, 0, 0));
+        int[][] offsets = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        while (!stack.isEmpty()) {
+            int[] cell = stack.peek();
+            int[] next = null;
+            int options = 0;
+            for (int[] offset : offsets) {
+                int x = cell[0] + offset[0];
+                int z = cell[1] + offset[1];
+                //Reservoir sample a random unvisited neighbor
+                if (x >= 0 && x < WIDTH && z >= 0 && z < DEPTH && !visited[x][z] && random.nextInt(++options) == 0) {
+                    next = new int[]{x, z};
+                }
+            }
+            if (next == null) {
+                stack.pop();
+            } else {
+                visited[next[0]][next[1]] = true;
+                transporters.add(BlockPos.asLong(cell[0] + next[0], 0, cell[1] + next[1]));
+                transporters.add(BlockPos.asLong(2 * next[0], 0, 2 * next[1]));
+                stack.push(next);
+            }
+        }
+        start = BlockPos.ZERO;
+        destination = new BlockPos(2 * (WIDTH - 1), 1, 2 * (DEPTH - 1));
+    }
+
+    @Benchmark
+    public double findPath() {
+        MazePathfinder pathfinder = new MazePathfinder(transporters, destination, start);
+        if (!pathfinder.find()) {
+            throw new IllegalStateException("Failed to find path through maze");
+        }
+        return pathfinder.getFinalScore();
+    }
+
+    private static class MazePathfinder extends TransporterAStar<Boolean> {
+
+        private final LongSet transporters;
+
+        private MazePathfinder(LongSet transporters, BlockPos finalNode, BlockPos start) {
+            super(finalNode, start);
+            this.transporters = transporters;
+        }
+
+        @Nullable
+        @Override
+        protected Boolean getNode(long pos) {
+            return transporters.contains(pos) ? Boolean.TRUE : null;
+        }
+
+        @Override
+        protected boolean canMoveTo(@Nullable Boolean to, Direction direction, @Nullable Boolean from) {
+            return to != null;
+        }
+
+        @Override
+        protected double getCost(Boolean node) {
+            return 1;
+        }
+
+        @Override
+        protected boolean isValidDestination(@Nullable Boolean from, Direction direction) {
+            return from != null;
+        }
+    }
+}
\ No newline at end of file
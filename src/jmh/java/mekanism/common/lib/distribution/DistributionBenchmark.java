@@ -0,0 +1,126 @@
+package mekanism.common.lib.distribution;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.common.util.EmitUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares distributing via the boxed {@link Target} against the primitive {@link LongTarget} that the networks reuse across ticks. Run with {@code -prof gc} to see
+ * the difference in allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistributionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int acceptors;
+
+    private BufferHandler[] handlers;
+    private long toSend;
+    private final PrimitiveBufferTarget primitiveTarget = new PrimitiveBufferTarget();
+
+    @Setup
+    public void setup() {
+        handlers = new BufferHandler[acceptors];
+        for (int i = 0; i < acceptors; i++) {
+            //Mix of acceptors that want less than an even share, ones that want more, and ones that are full
+            handlers[i] = new BufferHandler(switch (i % 3) {
+                case 0 -> 10;
+                case 1 -> 10_000;
+                default -> 0;
+            });
+        }
+        toSend = 1_000L * acceptors;
+    }
+
+    @Benchmark
+    public long boxed() {
+        drain();
+        //Mirror what the networks do each tick, creating a new target as the boxed target keeps track of the handlers that still need more until it is discarded
+        BoxedBufferTarget boxedTarget = new BoxedBufferTarget(acceptors);
+        for (BufferHandler handler : handlers) {
+            boxedTarget.addHandler(handler);
+        }
+        return EmitUtils.sendToAcceptors(boxedTarget, toSend, toSend);
+    }
+
+    @Benchmark
+    public long primitive() {
+        drain();
+        //Mirror what the networks do each tick, adding all the handlers and then clearing the target once done
+        for (BufferHandler handler : handlers) {
+            primitiveTarget.addHandler(handler);
+        }
+        long sent = EmitUtils.sendToAcceptors(primitiveTarget, toSend, null);
+        primitiveTarget.clear();
+        return sent;
+    }
+
+    private void drain() {
+        for (BufferHandler handler : handlers) {
+            handler.stored = 0;
+        }
+    }
+
+    private static class BufferHandler {
+
+        private final long capacity;
+        private long stored;
+
+        private BufferHandler(long capacity) {
+            this.capacity = capacity;
+        }
+
+        private long insert(long amount, boolean simulate) {
+            long toAccept = Math.min(amount, capacity - stored);
+            if (!simulate) {
+                stored += toAccept;
+            }
+            return toAccept;
+        }
+    }
+
+    private static class BoxedBufferTarget extends Target<BufferHandler, Long, Long> {
+
+        private BoxedBufferTarget(int expectedSize) {
+            super(expectedSize);
+        }
+
+        @Override
+        protected void acceptAmount(BufferHandler handler, SplitInfo<Long> splitInfo, Long amount) {
+            splitInfo.send(handler.insert(amount, false));
+        }
+
+        @Override
+        protected Long simulate(BufferHandler handler, Long amount) {
+            return handler.insert(amount, true);
+        }
+    }
+
+    private static class PrimitiveBufferTarget extends LongTarget<BufferHandler, Void> {
+
+        @Override
+        protected void acceptAmount(BufferHandler handler, LongSplitInfo splitInfo, Void extra, long amount) {
+            splitInfo.sendLong(handler.insert(amount, false));
+        }
+
+        @Override
+        protected long simulate(BufferHandler handler, Void extra, long amount) {
+            return handler.insert(amount, true);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package mekanism.common.lib.distribution;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.LongIntegerTarget;
+import mekanism.common.lib.distribution.target.PrimitiveIntegerTarget;
+import mekanism.common.lib.distribution.target.PrimitiveLongTarget;
+import mekanism.common.util.EmitUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks integer splitting, as used by fluid networks, and long splitting, as used by energy and chemical networks, using the same target fixtures as
+ * {@link DistributionTest}. The targets are split evenly between handlers that accept everything, handlers that accept half of what they are offered, and handlers that
+ * accept nothing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntegerDistributionBenchmark {
+
+    @Param({"9", "99", "999"})
+    public int acceptors;
+
+    private IntegerTarget boxedTarget;
+    private PrimitiveIntegerTarget primitiveTarget;
+    private LongIntegerTarget boxedLongTarget;
+    private PrimitiveLongTarget primitiveLongTarget;
+    private int toSend;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        //Note: The targets are created fresh for each invocation as the boxed targets keep track of the handlers that still need more until they are discarded
+        int perType = acceptors / 3;
+        boxedTarget = DistributionTest.getTargets(perType, perType, perType);
+        primitiveTarget = DistributionTest.getPrimitiveTargets(perType, perType, perType);
+        boxedLongTarget = DistributionTest.getLongTargets(perType, perType, perType);
+        primitiveLongTarget = DistributionTest.getPrimitiveLongTargets(perType, perType, perType);
+        //Send an amount that doesn't divide evenly so that the remainder handling is included
+        toSend = 1_000 * acceptors + perType;
+    }
+
+    @Benchmark
+    public int boxed() {
+        return EmitUtils.sendToAcceptors(boxedTarget, toSend, toSend);
+    }
+
+    @Benchmark
+    public int primitive() {
+        return EmitUtils.sendToAcceptors(primitiveTarget, toSend, null);
+    }
+
+    @Benchmark
+    public long boxedLong() {
+        long amount = toSend;
+        return EmitUtils.sendToAcceptors(boxedLongTarget, amount, amount);
+    }
+
+    @Benchmark
+    public long primitiveLong() {
+        return EmitUtils.sendToAcceptors(primitiveLongTarget, (long) toSend, null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package mekanism.common.lib.multiblock;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import mekanism.common.lib.multiblock.FormationProtocol.FormationChecker;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares exploring a max size (18x18x18) structure with {@link FormationProtocol#explore} against the previous implementation that queued and tracked an immutable
+ * {@link BlockPos} for every position it visited. Run with {@code -prof gc} to see the difference in allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormationExploreBenchmark {
+
+    private static final int SIZE = FormationProtocol.MAX_SIZE;
+
+    /**
+     * Whether to explore the entire volume of the structure, like when calculating the volume of a boiler, or only the casings of the structure, like when merging the
+     * nodes of a structure.
+     */
+    @Param({"true", "false"})
+    public boolean solid;
+
+    private final BlockPos start = BlockPos.ZERO;
+    private FormationChecker<Void> checker;
+
+    @Setup
+    public void setup() {
+        int max = SIZE - 1;
+        if (solid) {
+            checker = (level, chunkMap, s, node, pos) -> inBounds(pos.getX(), max) && inBounds(pos.getY(), max) && inBounds(pos.getZ(), max);
+        } else {
+            checker = (level, chunkMap, s, node, pos) -> inBounds(pos.getX(), max) && inBounds(pos.getY(), max) && inBounds(pos.getZ(), max) &&
+                                                         (isEdge(pos.getX(), max) || isEdge(pos.getY(), max) || isEdge(pos.getZ(), max));
+        }
+    }
+
+    private static boolean inBounds(int coord, int max) {
+        return coord >= 0 && coord <= max;
+    }
+
+    private static boolean isEdge(int coord, int max) {
+        return coord == 0 || coord == max;
+    }
+
+    @Benchmark
+    public int packed() {
+        return FormationProtocol.explore(null, null, start, null, checker);
+    }
+
+    @Benchmark
+    public int immutable() {
+        if (!checker.check(null, null, start, null, start)) {
+            return 0;
+        }
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        Queue<BlockPos> openSet = new LinkedList<>();
+        Set<BlockPos> traversed = new ObjectOpenHashSet<>();
+        openSet.add(start);
+        traversed.add(start);
+        int maxCount = SIZE * SIZE * SIZE;
+        while (!openSet.isEmpty()) {
+            BlockPos ptr = openSet.poll();
+            int traversedSize = traversed.size();
+            if (traversedSize >= maxCount) {
+                return traversedSize;
+            }
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                mutable.setWithOffset(ptr, side);
+                if (!traversed.contains(mutable) && checker.check(null, null, start, null, mutable)) {
+                    BlockPos offset = mutable.immutable();
+                    openSet.add(offset);
+                    traversed.add(offset);
+                }
+            }
+        }
+        return traversed.size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package mekanism.common.recipe.lookup.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mekanism.api.recipes.ItemStackToItemStackRecipe;
+import mekanism.api.recipes.basic.BasicCrushingRecipe;
+import mekanism.api.recipes.ingredients.creator.IngredientCreatorAccess;
+import mekanism.common.Mekanism;
+import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.cache.InputRecipeCache.SingleItem;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SingleInputRecipeCache#findFirstRecipe(net.minecraft.world.level.Level, Object)} against a cache that has one crushing recipe per registered item.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RecipeCacheGameBenchmark {
+
+    @Param({"100", "1000"})
+    public int recipes;
+
+    private SingleItem<ItemStackToItemStackRecipe> cache;
+    private ItemStack[] hits;
+    private ItemStack miss;
+    private int index;
+
+    @Setup
+    public void setup() {
+        cache = new SingleItem<>(MekanismRecipeType.CRUSHING.get(), ItemStackToItemStackRecipe::getInput);
+        List<RecipeHolder<ItemStackToItemStackRecipe>> holders = new ArrayList<>(recipes);
+        List<ItemStack> inputs = new ArrayList<>(recipes);
+        for (Item item : BuiltInRegistries.ITEM) {
+            if (holders.size() == recipes) {
+                break;
+            } else if (item != Items.AIR && item != Items.COBBLESTONE) {
+                holders.add(new RecipeHolder<>(Mekanism.rl("benchmark/" + holders.size()), new BasicCrushingRecipe(IngredientCreatorAccess.item().from(item), new ItemStack(Items.COBBLESTONE))));
+                inputs.add(new ItemStack(item));
+            }
+        }
+        //Initialize the cache directly as we don't have a level to look the recipes up from
+        cache.initCache(holders);
+        cache.initialized = true;
+        hits = inputs.toArray(ItemStack[]::new);
+        miss = new ItemStack(Items.COBBLESTONE);
+    }
+
+    @Benchmark
+    public ItemStackToItemStackRecipe findHit() {
+        ItemStack input = hits[index];
+        index = (index + 1) % hits.length;
+        return cache.findFirstRecipe(null, input);
+    }
+
+    @Benchmark
+    public ItemStackToItemStackRecipe findMiss() {
+        return cache.findFirstRecipe(null, miss);
+    }
+}
\ No newline at end of file
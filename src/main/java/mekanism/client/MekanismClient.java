@@ -8,6 +8,7 @@ import mekanism.client.render.tileentity.RenderSPS;
 import mekanism.client.sound.SoundHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.IModModule;
+import mekanism.common.content.qio.QIOItemTypeDictionary;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.security.SecurityData;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
@@ -53,6 +54,7 @@ public class MekanismClient {
         Mekanism.playerState.clear(true);
         Mekanism.activeVibrators.clear();
         RadiationManager.get().resetClient();
+        QIOItemTypeDictionary.resetClient();
         SoundHandler.radiationSoundMap.clear();
         RenderSPS.clearBoltRenderers();
         TransmitterNetworkRegistry.getInstance().clearClientNetworks();
@@ -109,6 +109,12 @@ public abstract class GuiQIOItemViewer<CONTAINER extends QIOItemViewerContainer>
         craftingWindowTab = addRenderableWidget(new GuiCraftingWindowTab(this, () -> craftingWindowTab, menu));
     }
 
+    @Override
+    public void containerTick() {
+        super.containerTick();
+        menu.tickItemList();
+    }
+
     @Override
     protected void drawForegroundText(@NotNull GuiGraphics guiGraphics, int mouseX, int mouseY) {
         renderTitleText(guiGraphics);
@@ -14,11 +14,14 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
+import mekanism.common.lib.EntityLookupCache;
 import mekanism.common.lib.frequency.FrequencyManager;
+import mekanism.common.lib.multiblock.MultiblockFormationScheduler;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
+import net.minecraft.core.SectionPos;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -33,6 +36,7 @@ import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.neoforge.event.entity.EntityEvent;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
 import net.neoforged.neoforge.event.level.ChunkDataEvent;
@@ -98,6 +102,19 @@ public class CommonWorldTickHandler {
         }
     }
 
+    @SubscribeEvent
+    public void onEntityJoin(EntityJoinLevelEvent event) {
+        //Note: This is called after onEntitySpawn and only if the entity actually joined the level
+        Entity entity = event.getEntity();
+        EntityLookupCache.onEntityEnteredSection(event.getLevel(), SectionPos.asLong(entity.blockPosition()));
+    }
+
+    @SubscribeEvent
+    public void onEntityEnterSection(EntityEvent.EnteringSection event) {
+        Entity entity = event.getEntity();
+        EntityLookupCache.onEntityEnteredSection(entity.level(), event.getPackedNewPos());
+    }
+
     @SubscribeEvent
     public void onBlockBreak(BlockEvent.BreakEvent event) {
         BlockState state = event.getState();
@@ -160,9 +177,12 @@ public class CommonWorldTickHandler {
     @SubscribeEvent
     public void worldUnloadEvent(LevelEvent.Unload event) {
         LevelAccessor world = event.getLevel();
-        if (!world.isClientSide() && world instanceof Level level && chunkVersions != null) {
-            //When a world unloads, free up memory tracking the versions of the chunks in it
-            chunkVersions.remove(level.dimension().location());
+        if (!world.isClientSide() && world instanceof Level level) {
+            if (chunkVersions != null) {
+                //When a world unloads, free up memory tracking the versions of the chunks in it
+                chunkVersions.remove(level.dimension().location());
+            }
+            EntityLookupCache.unload(level);
         }
     }
 
@@ -180,6 +200,7 @@ public class CommonWorldTickHandler {
     public void onTick(ServerTickEvent.Post event) {
         boolean tickingNormally = event.getServer().tickRateManager().runsNormally();
         FrequencyManager.tick(tickingNormally);
+        MultiblockFormationScheduler.tick();
         RadiationManager.get().tickServer(tickingNormally);
     }
 
@@ -187,6 +208,7 @@ public class CommonWorldTickHandler {
     public void onTick(LevelTickEvent.Post event) {
         if (event.getLevel() instanceof ServerLevel world) {
             RadiationManager.get().tickServerWorld(world);
+            EntityLookupCache.tick(world);
             //Note: We flush the tag and recipe cache, and also perform retrogen, regardless of if the ticks are frozen or not
             if (flushTagAndRecipeCaches) {
                 //Loop all open containers and if it is a portable qio dashboard force refresh the window's recipes
@@ -40,13 +40,16 @@ import mekanism.common.content.matrix.MatrixValidator;
 import mekanism.common.content.network.BoxedChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
+import mekanism.common.content.qio.QIODriveLoader;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
+import mekanism.common.content.qio.QIOItemTypeDictionary;
 import mekanism.common.content.sps.SPSCache;
 import mekanism.common.content.sps.SPSMultiblockData;
 import mekanism.common.content.sps.SPSValidator;
 import mekanism.common.content.tank.TankCache;
 import mekanism.common.content.tank.TankMultiblockData;
 import mekanism.common.content.tank.TankValidator;
+import mekanism.common.content.transporter.AsyncTransporterPathfinder;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.integration.MekanismHooks;
@@ -56,12 +59,14 @@ import mekanism.common.item.block.machine.ItemBlockFluidTank.FluidTankItemDispen
 import mekanism.common.item.interfaces.IHasConditionalAttributes;
 import mekanism.common.item.loot.MekanismLootFunctions;
 import mekanism.common.item.predicate.MekanismItemPredicates;
+import mekanism.common.lib.EntityLookupCache;
 import mekanism.common.lib.MekAnnotationScanner;
 import mekanism.common.lib.Version;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.inventory.personalstorage.PersonalStorageManager;
 import mekanism.common.lib.multiblock.MultiblockCache;
+import mekanism.common.lib.multiblock.MultiblockFormationScheduler;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
@@ -325,12 +330,17 @@ public class Mekanism {
         BoilerMultiblockData.hotMap.clear();
 
         //Reset consistent managers
+        QIODriveLoader.reset();
         QIOGlobalItemLookup.INSTANCE.reset();
+        QIOItemTypeDictionary.reset();
         RadiationManager.get().reset();
         MultiblockManager.reset();
+        MultiblockFormationScheduler.reset();
+        EntityLookupCache.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
         PathfinderCache.reset();
+        AsyncTransporterPathfinder.reset();
         TransmitterNetworkRegistry.reset();
         GenHandler.reset();
         PersonalStorageManager.reset();
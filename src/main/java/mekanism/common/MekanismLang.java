@@ -178,6 +178,11 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_RETROGEN_CHUNK_QUEUED("command", "retrogen.chunk_queued"),
     COMMAND_ERROR_RETROGEN_DISABLED("command", "error.retrogen.disabled"),
     COMMAND_ERROR_RETROGEN_FAILURE("command", "error.retrogen.failure"),
+    COMMAND_NETWORKS_PROFILE("command", "networks.profile"),
+    COMMAND_NETWORKS_TOP("command", "networks.top"),
+    COMMAND_NETWORKS_TOP_ENTRY("command", "networks.top.entry"),
+    COMMAND_NETWORKS_PATH_CACHE("command", "networks.path_cache"),
+    COMMAND_ERROR_NETWORKS_NOT_PROFILING("command", "error.networks.not_profiling"),
     //Transmission types
     TRANSMISSION_TYPE_ENERGY("transmission", "energy"),
     TRANSMISSION_TYPE_FLUID("transmission", "fluids"),
@@ -4,6 +4,7 @@ import com.mojang.serialization.Codec;
 import io.netty.buffer.ByteBuf;
 import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongSortedMap;
 import it.unimi.dsi.fastutil.objects.Object2LongSortedMaps;
 import java.util.UUID;
@@ -47,7 +48,19 @@ public record DriveContents(Object2LongSortedMap<UUID> namedItemMap) {
     }
 
     public void loadItemMap(QIODriveData data) {
-        Object2LongMap<HashedItem> itemMap = data.getItemMap();
+        loadItemMap(data.getItemMap());
+    }
+
+    /**
+     * Resolves the types of the items stored in the drive. This is safe to call from a background thread.
+     */
+    public Object2LongMap<HashedItem> resolveItemMap() {
+        Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>(namedItemMap.size());
+        loadItemMap(itemMap);
+        return itemMap;
+    }
+
+    private void loadItemMap(Object2LongMap<HashedItem> itemMap) {
         for (Object2LongMap.Entry<UUID> entry : namedItemMap.object2LongEntrySet()) {
             HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(entry.getKey());
             if (type != null) {
@@ -43,6 +43,11 @@ public class MekanismPermissions {
     public static final CommandPermissionNode COMMAND_DEBUG = nodeOpCommand("debug");
     public static final CommandPermissionNode COMMAND_FORCE_RETROGEN = nodeOpCommand("force_retrogen");
 
+    public static final CommandPermissionNode COMMAND_NETWORKS = nodeOpCommand("networks");
+    public static final CommandPermissionNode COMMAND_NETWORKS_PROFILE = nodeSubCommand(COMMAND_NETWORKS, "profile");
+    public static final CommandPermissionNode COMMAND_NETWORKS_TOP = nodeSubCommand(COMMAND_NETWORKS, "top");
+    public static final CommandPermissionNode COMMAND_NETWORKS_PATH_CACHE = nodeSubCommand(COMMAND_NETWORKS, "pathcache");
+
     public static final CommandPermissionNode COMMAND_RADIATION = nodeOpCommand("radiation");
     public static final CommandPermissionNode COMMAND_RADIATION_ADD = nodeSubCommand(COMMAND_RADIATION, "add");
     public static final CommandPermissionNode COMMAND_RADIATION_ADD_ENTITY = nodeSubCommand(COMMAND_RADIATION, "add_entity");
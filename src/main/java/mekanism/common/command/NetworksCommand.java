@@ -0,0 +1,89 @@
+package mekanism.common.command;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import java.util.List;
+import java.util.Locale;
+import mekanism.api.text.EnumColor;
+import mekanism.common.MekanismLang;
+import mekanism.common.base.MekanismPermissions;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.PathfinderCache.PathCacheStats;
+import mekanism.common.lib.transmitter.NetworkTickProfiler;
+import mekanism.common.lib.transmitter.NetworkTickProfiler.NetworkTickStats;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.text.BooleanStateDisplay.OnOff;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.network.chat.Component;
+
+public class NetworksCommand {
+
+    private static final SimpleCommandExceptionType PROFILING_DISABLED = new SimpleCommandExceptionType(MekanismLang.COMMAND_ERROR_NETWORKS_NOT_PROFILING.translate());
+    private static final int DEFAULT_COUNT = 10;
+
+    private NetworksCommand() {
+    }
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("networks")
+              .requires(MekanismPermissions.COMMAND_NETWORKS)
+              .then(Commands.literal("profile")
+                    .requires(MekanismPermissions.COMMAND_NETWORKS_PROFILE)
+                    .executes(ctx -> {
+                        NetworkTickProfiler profiler = TransmitterNetworkRegistry.getInstance().getProfiler();
+                        profiler.setEnabled(!profiler.isEnabled());
+                        ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_NETWORKS_PROFILE.translateColored(EnumColor.GRAY, OnOff.of(profiler.isEnabled(), true)), true);
+                        return 0;
+                    })
+              ).then(Commands.literal("top")
+                    .requires(MekanismPermissions.COMMAND_NETWORKS_TOP)
+                    .executes(ctx -> listTop(ctx.getSource(), DEFAULT_COUNT))
+                    .then(Commands.argument("count", IntegerArgumentType.integer(1, 100))
+                          .executes(ctx -> listTop(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "count")))
+                    )
+              ).then(Commands.literal("pathcache")
+                    .requires(MekanismPermissions.COMMAND_NETWORKS_PATH_CACHE)
+                    .executes(ctx -> {
+                        PathCacheStats stats = PathfinderCache.getStats();
+                        ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_NETWORKS_PATH_CACHE.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.size(),
+                              EnumColor.INDIGO, stats.capacity(), EnumColor.INDIGO, stats.hits(), EnumColor.INDIGO, stats.misses(), EnumColor.INDIGO,
+                              String.format(Locale.ROOT, "%.1f", 100 * stats.hitRate()), EnumColor.INDIGO, stats.evictions(), EnumColor.INDIGO, stats.invalidations()), false);
+                        return stats.size();
+                    })
+              );
+    }
+
+    private static int listTop(CommandSourceStack source, int count) throws CommandSyntaxException {
+        NetworkTickProfiler profiler = TransmitterNetworkRegistry.getInstance().getProfiler();
+        if (!profiler.isEnabled()) {
+            throw PROFILING_DISABLED.create();
+        }
+        List<NetworkTickStats> mostExpensive = profiler.getMostExpensive(count);
+        source.sendSuccess(() -> MekanismLang.COMMAND_NETWORKS_TOP.translateColored(EnumColor.GRAY, EnumColor.INDIGO, mostExpensive.size(), EnumColor.INDIGO,
+              profiler.getProfiledNetworks()), false);
+        for (int i = 0; i < mostExpensive.size(); i++) {
+            NetworkTickStats stats = mostExpensive.get(i);
+            int rank = i + 1;
+            GlobalPos position = stats.getPosition();
+            Component location = position == null ? MekanismLang.UNKNOWN.translate() : getPosition(position.pos());
+            Object dimension = position == null ? MekanismLang.UNKNOWN.translate() : position.dimension().location();
+            source.sendSuccess(() -> MekanismLang.COMMAND_NETWORKS_TOP_ENTRY.translateColored(EnumColor.GRAY, rank, stats.getNetwork().getTextComponent(),
+                  EnumColor.INDIGO, location, EnumColor.INDIGO, dimension, EnumColor.INDIGO, formatMillis(stats.getAverageNanos()), EnumColor.INDIGO, formatMillis(stats.getP99Nanos()),
+                  EnumColor.INDIGO, String.format(Locale.ROOT, "%.1f", stats.getAverageTransferred())), false);
+        }
+        return mostExpensive.size();
+    }
+
+    private static String formatMillis(double nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000);
+    }
+
+    private static Component getPosition(BlockPos pos) {
+        return MekanismLang.GENERIC_BLOCK_POS.translate(pos.getX(), pos.getY(), pos.getZ());
+    }
+}
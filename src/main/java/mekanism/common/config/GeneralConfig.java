@@ -38,9 +38,12 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String BOILER_CATEGORY = "boiler";
     private static final String EVAPORATION_CATEGORY = "thermal_evaporation";
     private static final String SPS_CATEGORY = "sps";
+    private static final String INDUCTION_CATEGORY = "induction_matrix";
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
+    private static final String TRANSMITTER_CATEGORY = "transmitters";
+    private static final String QIO_CATEGORY = "qio";
 
     private final ModConfigSpec configSpec;
 
@@ -62,6 +65,14 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue maxSolarNeutronActivatorRate;
     public final CachedIntValue fluidItemFillRate;
     public final CachedLongValue chemicalItemFillRate;
+    public final CachedIntValue multiblockFormationBudget;
+    public final CachedIntValue emptyEntityScanInterval;
+    //Transmitters
+    public final CachedIntValue energyAcceptorMaxSleep;
+    public final CachedIntValue transporterPathCacheSize;
+    public final CachedBooleanValue asyncTransporterPathfinding;
+    public final CachedBooleanValue transporterRoutingTables;
+    public final CachedBooleanValue parallelNetworkTicking;
     //Auto eject
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
@@ -133,6 +144,11 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue spsInputPerAntimatter;
     public final CachedLongValue spsOutputTankCapacity;
     public final CachedLongValue spsEnergyPerInput;
+    //Induction Matrix
+    public final CachedBooleanValue matrixAggregateEnergy;
+    //QIO
+    public final CachedIntValue qioViewerSyncInterval;
+    public final CachedBooleanValue qioAsyncDriveLoading;
 
     GeneralConfig() {
         ModConfigSpec.Builder builder = new ModConfigSpec.Builder();
@@ -180,6 +196,23 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("fluidItemFillRate", 1_024, 1, Integer.MAX_VALUE));
         chemicalItemFillRate = CachedLongValue.wrap(this, builder.comment("Rate at which generic chemical storage items can be filled or emptied.")
               .defineInRange("chemicalItemFillRate", 1_024, 1, Long.MAX_VALUE));
+        multiblockFormationBudget = CachedIntValue.wrap(this, builder.comment("Maximum time in milliseconds to spend forming multiblock structures each tick. Structures that don't fit in the budget are formed on the following ticks, starting with the ones closest to players. At least one structure is formed each tick. Set to 0 to form structures as soon as they change.")
+              .defineInRange("multiblockFormationBudget", 5, 0, 50));
+        emptyEntityScanInterval = CachedIntValue.wrap(this, builder.comment("How many ticks machines and multiblocks that scan an area for entities, such as the Chargepad or Fission Reactor, reuse the result of an empty scan before scanning again. Areas are always scanned again as soon as an entity enters or spawns in a nearby chunk section. Set to 1 to scan every tick.")
+              .defineInRange("emptyEntityScanInterval", 5, 1, SharedConstants.TICKS_PER_SECOND));
+
+        builder.comment("Transmitter Network Settings").push(TRANSMITTER_CATEGORY);
+        energyAcceptorMaxSleep = CachedIntValue.wrap(this, builder.comment("Maximum number of ticks an energy network will stop offering energy to an acceptor that keeps refusing it. Acceptors are rechecked immediately if their connection changes or the amount of energy they need changes. Set to 0 to offer energy to all acceptors every tick.")
+              .defineInRange("energyAcceptorMaxSleep", SharedConstants.TICKS_PER_SECOND, 0, SharedConstants.TICKS_PER_MINUTE));
+        transporterPathCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of logistical transporter paths to keep cached across all networks. When full the least recently used paths are discarded. Set to 0 to disable caching paths.")
+              .defineInRange("transporterPathCacheSize", 16_384, 0, 1_048_576));
+        asyncTransporterPathfinding = CachedBooleanValue.wrap(this, builder.comment("Find new paths for items that are already travelling through logistical transporters on a worker pool. Items wait in place until their new path has been found, which takes at least one tick.")
+              .define("asyncTransporterPathfinding", false));
+        transporterRoutingTables = CachedBooleanValue.wrap(this, builder.comment("Keep the shortest paths from each point items enter a logistical transporter network to every transporter in it, instead of searching for a path to each destination whenever an item is sent. Unlike the regular search, this does not limit how far out of the way a path can go.")
+              .define("transporterRoutingTables", false));
+        parallelNetworkTicking = CachedBooleanValue.wrap(this, builder.comment("Split the contents of energy, fluid and chemical networks between their acceptors on a worker pool. What each acceptor wants is still checked, and contents are still inserted, on the server thread.")
+              .define("parallelNetworkTicking", false));
+        builder.pop();
 
         builder.comment("Dynamic Tank Settings").push(DYNAMIC_TANK);
         int maxVolume = 18 * 18 * 18;
@@ -346,6 +379,18 @@ public class GeneralConfig extends BaseMekanismConfig {
               "energyPerInput", 1_000_000);
         builder.pop();
 
+        builder.comment("Induction Matrix Settings").push(INDUCTION_CATEGORY);
+        matrixAggregateEnergy = CachedBooleanValue.wrap(this, builder.comment("Track the energy of an Induction Matrix as a single total instead of updating each Induction Cell every tick energy flows. The energy is only written back to the cells when they are saved, and when the structure changes or unloads, so the cost of ticking a matrix doesn't depend on how many cells it has.")
+              .define("aggregateEnergy", true));
+        builder.pop();
+
+        builder.comment("QIO Settings").push(QIO_CATEGORY);
+        qioViewerSyncInterval = CachedIntValue.wrap(this, builder.comment("Minimum number of ticks between updates sent to players viewing the items in a QIO frequency. Changes made in between are combined into the next update, with only the latest count of each item being sent.")
+              .defineInRange("viewerSyncInterval", 5, 1, SharedConstants.TICKS_PER_SECOND));
+        qioAsyncDriveLoading = CachedBooleanValue.wrap(this, builder.comment("Load the contents of QIO drives on a background thread when they are added to a frequency, and add them to the frequency on a later tick. Only looking up the stored item types moves off the server thread, so this only helps with drives storing a very large number of types, and in exchange the items in a drive can't be accessed for a short while each time the drive is inserted or its chunk loads.")
+              .define("asyncDriveLoading", false));
+        builder.pop();
+
         builder.pop();
         configSpec = builder.build();
     }
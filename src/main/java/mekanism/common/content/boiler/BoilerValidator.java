@@ -41,6 +41,12 @@ public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockDa
         return BlockType.is(state.getBlock(), MekanismBlockTypes.PRESSURE_DISPERSER, MekanismBlockTypes.SUPERHEATING_ELEMENT);
     }
 
+    @Override
+    protected boolean canRecheckInternals() {
+        //Our postcheck recomputes the dispersers, superheating elements and volumes from the internal locations
+        return true;
+    }
+
     @Override
     public FormationResult postcheck(BoilerMultiblockData structure, Long2ObjectMap<ChunkAccess> chunkMap) {
         SequencedSet<BlockPos> dispersers = new LinkedHashSet<>();
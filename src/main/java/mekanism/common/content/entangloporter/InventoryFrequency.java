@@ -350,7 +350,7 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
         @Override
         public void run() {
             if (getHandlerCount() > 0) {
-                storedEnergy.extract(EmitUtils.sendToAcceptors(this, toSend, toSend), Action.EXECUTE, AutomationType.INTERNAL);
+                storedEnergy.extract(EmitUtils.sendToAcceptors(this, toSend, null), Action.EXECUTE, AutomationType.INTERNAL);
             }
         }
 
@@ -363,22 +363,24 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
     private static class SendingFluidHandlerTarget extends FluidHandlerTarget implements Runnable, Consumer<IFluidHandler> {
 
         private final IExtendedFluidTank storedFluid;
+        private final FluidStack toSend;
 
         public SendingFluidHandlerTarget(@NotNull FluidStack toSend, int expectedSize, IExtendedFluidTank storedFluid) {
-            super(toSend, expectedSize);
+            super(expectedSize);
             this.storedFluid = storedFluid;
+            this.toSend = toSend;
         }
 
         @Override
         public void run() {
             if (getHandlerCount() > 0) {
-                storedFluid.extract(EmitUtils.sendToAcceptors(this, extra.getAmount(), extra), Action.EXECUTE, AutomationType.INTERNAL);
+                storedFluid.extract(EmitUtils.sendToAcceptors(this, toSend.getAmount(), toSend), Action.EXECUTE, AutomationType.INTERNAL);
             }
         }
 
         @Override
         public void accept(IFluidHandler handler) {
-            if (FluidUtils.canFill(handler, extra)) {
+            if (FluidUtils.canFill(handler, toSend)) {
                 addHandler(handler);
             }
         }
@@ -388,22 +390,24 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
           extends ChemicalHandlerTarget<CHEMICAL, STACK, HANDLER> implements Runnable, Consumer<HANDLER> {
 
         private final IChemicalTank<CHEMICAL, STACK> storedChemical;
+        private final STACK toSend;
 
         public SendingChemicalHandlerTarget(@NotNull STACK toSend, int expectedSize, IChemicalTank<CHEMICAL, STACK> storedChemical) {
-            super(toSend, expectedSize);
+            super(expectedSize);
             this.storedChemical = storedChemical;
+            this.toSend = toSend;
         }
 
         @Override
         public void run() {
             if (getHandlerCount() > 0) {
-                storedChemical.extract(EmitUtils.sendToAcceptors(this, extra.getAmount(), extra), Action.EXECUTE, AutomationType.INTERNAL);
+                storedChemical.extract(EmitUtils.sendToAcceptors(this, toSend.getAmount(), toSend), Action.EXECUTE, AutomationType.INTERNAL);
             }
         }
 
         @Override
         public void accept(HANDLER handler) {
-            if (ChemicalUtil.canInsert(handler, extra)) {
+            if (ChemicalUtil.canInsert(handler, toSend)) {
                 addHandler(handler);
             }
         }
@@ -10,6 +10,7 @@ import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.MathUtils;
 import mekanism.common.capabilities.energy.MachineEnergyContainer;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.tier.InductionProviderTier;
 import mekanism.common.tile.multiblock.TileEntityInductionCell;
 import mekanism.common.tile.multiblock.TileEntityInductionProvider;
@@ -34,6 +35,10 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     private long cachedTotal = 0L;
     private long transferCap = 0L;
     private long storageCap = 0L;
+    /**
+     * If the energy stored in the cells is behind the cached total as the matrix is aggregating its energy.
+     */
+    private boolean cellsOutOfDate;
 
     private final MatrixMultiblockData multiblock;
 
@@ -60,6 +65,8 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     // We may also want to make cells and providers extend TileEntityInternalMultiblock
     public void removeInternal(BlockPos pos) {
         if (invalidPositions.add(pos)) {
+            //Make sure the energy in the cell is up to date before we remove it from the total
+            flushToCells();
             if (providers.containsKey(pos)) {
                 //It is a provider
                 transferCap -= providers.get(pos).getOutput();
@@ -77,6 +84,7 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     public void invalidate() {
         //Force save
         tick();
+        flushToCells();
         //And reset everything
         cells.clear();
         providers.clear();
@@ -112,6 +120,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private void addEnergy(long energy) {
         cachedTotal += energy;
+        if (aggregateEnergy()) {
+            return;
+        }
         for (IEnergyContainer container : cells.values()) {
             //Note: inserting into the cell's energy container handles marking the cell for saving if it changes
             long remainder = container.insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
@@ -129,6 +140,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private void removeEnergy(long energy) {
         cachedTotal -= energy;
+        if (aggregateEnergy()) {
+            return;
+        }
         for (IEnergyContainer container : cells.values()) {
             //Note: extracting from the cell's energy container handles marking the cell for saving if it changes
             long extracted = container.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
@@ -143,6 +157,41 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         }
     }
 
+    /**
+     * Checks if the energy change should only be applied to the cached total, and if so makes sure the cells will be saved.
+     */
+    private boolean aggregateEnergy() {
+        if (MekanismConfig.general.matrixAggregateEnergy.get()) {
+            if (!cellsOutOfDate) {
+                cellsOutOfDate = true;
+                //Mark the cells as changed so that they get saved, and write the aggregated energy back to themselves when they do
+                for (IEnergyContainer container : cells.values()) {
+                    container.onContentsChanged();
+                }
+            }
+            return true;
+        }
+        //The config was changed, make sure the cells are up to date before we start updating them directly again
+        flushToCells();
+        return false;
+    }
+
+    /**
+     * Writes the aggregated energy back to the cells if it has changed since it was last written, filling the cells in order.
+     */
+    public void flushToCells() {
+        if (cellsOutOfDate) {
+            cellsOutOfDate = false;
+            long remaining = Math.max(0L, cachedTotal);
+            for (IEnergyContainer container : cells.values()) {
+                long energy = Math.min(remaining, container.getMaxEnergy());
+                //Note: setting the cell's energy handles marking the cell for saving if it changes
+                container.setEnergy(energy);
+                remaining -= energy;
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
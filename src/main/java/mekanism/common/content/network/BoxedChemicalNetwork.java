@@ -33,6 +33,7 @@ import mekanism.common.capabilities.chemical.variable.VariableCapacityChemicalTa
 import mekanism.common.content.network.distribution.BoxedChemicalTransmitterSaveTarget;
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
 import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
+import mekanism.common.lib.distribution.PlannedTarget;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
@@ -56,6 +57,15 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     private final List<ISlurryTank> slurryTanks;
     @NotNull
     public BoxedChemical lastChemical = BoxedChemical.EMPTY;
+    /**
+     * Target reused each tick for emitting, so that we don't have to allocate a new one every tick. As a network only ever holds a single chemical type at once, we
+     * only need a single target that we cast to the type of the chemical we are currently emitting.
+     */
+    private final ChemicalHandlerTarget<?, ?, ?> emitTarget = new ChemicalHandlerTarget<>();
+    /**
+     * Target used to split chemicals between acceptors when parallel network ticking is enabled.
+     */
+    private final PlannedTarget<IChemicalHandler<?, ?>> plannedTarget = new PlannedTarget<>();
     private long prevTransferAmount;
 
     public BoxedChemicalNetwork(UUID networkID) {
@@ -246,16 +256,56 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long tickEmit(@NotNull STACK stack) {
         ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
         Collection<Map<Direction, BoxedChemicalHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, acceptorValues.size() * 2);
-        for (Map<Direction, BoxedChemicalHandler> acceptors : acceptorValues) {
+        @SuppressWarnings("unchecked")
+        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = (ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>) emitTarget;
+        try {
+            for (Map<Direction, BoxedChemicalHandler> acceptors : acceptorValues) {
+                for (BoxedChemicalHandler acceptor : acceptors.values()) {
+                    IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
+                    if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
+                        target.addHandler(handler);
+                    }
+                }
+            }
+            return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        } finally {
+            target.clear();
+        }
+    }
+
+    @Override
+    public boolean gatherUpdate() {
+        Current current = chemicalTank.getCurrent();
+        if (current == Current.EMPTY) {
+            return false;
+        }
+        gatherAcceptors(chemicalTank.getTankFromCurrent(current).getStack());
+        return plannedTarget.getHandlerCount() > 0;
+    }
+
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> void gatherAcceptors(@NotNull STACK stack) {
+        ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
+        plannedTarget.start(stack.getAmount());
+        for (Map<Direction, BoxedChemicalHandler> acceptors : acceptorCache.getAcceptorValues()) {
             for (BoxedChemicalHandler acceptor : acceptors.values()) {
                 IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
-                if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
-                    target.addHandler(handler);
+                if (handler != null) {
+                    plannedTarget.addDemand(handler, stack.getAmount() - handler.insertChemical(stack, Action.SIMULATE).getAmount());
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+    }
+
+    @Override
+    public void planUpdate() {
+        plannedTarget.plan();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long executePlan(@NotNull STACK stack) {
+        //Note: All the handlers were gathered for the type of the stack we are sending
+        return plannedTarget.execute((acceptor, amount) -> amount - ((IChemicalHandler<CHEMICAL, STACK>) acceptor).insertChemical(
+              ChemicalUtil.copyWithAmount(stack, amount), Action.EXECUTE).getAmount());
     }
 
     @Override
@@ -267,10 +317,17 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         }
         Current current = chemicalTank.getCurrent();
         if (current == Current.EMPTY) {
+            plannedTarget.clear();
             prevTransferAmount = 0;
         } else {
             IChemicalTank<?, ?> tank = chemicalTank.getTankFromCurrent(current);
-            prevTransferAmount = tickEmit(tank.getStack());
+            if (plannedTarget.isPlannedFor(tank.getStored())) {
+                prevTransferAmount = executePlan(tank.getStack());
+            } else {
+                //Either parallel ticking is disabled, or our chemical changed since the plan was made
+                plannedTarget.clear();
+                prevTransferAmount = tickEmit(tank.getStack());
+            }
             MekanismUtils.logMismatchedStackSize(tank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
     }
@@ -287,6 +344,11 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         return ret;
     }
 
+    @Override
+    public long getLastTickTransfer() {
+        return prevTransferAmount;
+    }
+
     public long getPrevTransferAmount() {
         return prevTransferAmount;
     }
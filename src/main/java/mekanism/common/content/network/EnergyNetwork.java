@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.ObjLongConsumer;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.energy.IEnergyContainer;
@@ -14,10 +15,13 @@ import mekanism.api.math.MathUtils;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
+import mekanism.common.lib.distribution.PlannedTarget;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.acceptor.SleepingAcceptorTracker;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.core.Direction;
@@ -30,6 +34,14 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
 
     private final List<IEnergyContainer> energyContainers;
     public final VariableCapacityEnergyContainer energyContainer;
+    /**
+     * Target reused each tick for emitting, so that we don't have to allocate a new one every tick.
+     */
+    private final EnergyAcceptorTarget emitTarget = new EnergyAcceptorTarget();
+    /**
+     * Target used to split energy between acceptors when parallel network ticking is enabled.
+     */
+    private final PlannedTarget<IStrictEnergyHandler> plannedTarget = new PlannedTarget<>();
     private long prevTransferAmount = 0L;
 
     public EnergyNetwork(UUID networkID) {
@@ -104,16 +116,65 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     }
 
     private long tickEmit(long energyToSend) {
+        try {
+            gatherAcceptors(energyToSend, (acceptor, demand) -> emitTarget.addHandler(acceptor));
+            return EmitUtils.sendToAcceptors(emitTarget, energyToSend, null);
+        } finally {
+            emitTarget.clear();
+        }
+    }
+
+    private void gatherAcceptors(long energyToSend, ObjLongConsumer<IStrictEnergyHandler> acceptorConsumer) {
         Collection<Map<Direction, IStrictEnergyHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
+        SleepingAcceptorTracker<IStrictEnergyHandler> sleepingAcceptors = acceptorCache.getSleepingAcceptors(EnergyNetwork::getNeededEnergy);
+        sleepingAcceptors.startTick(MekanismConfig.general.energyAcceptorMaxSleep.get());
         for (Map<Direction, IStrictEnergyHandler> acceptors : acceptorValues) {
             for (IStrictEnergyHandler acceptor : acceptors.values()) {
-                if (acceptor.insertEnergy(energyToSend, Action.SIMULATE) < energyToSend) {
-                    target.addHandler(acceptor);
+                if (sleepingAcceptors.isSleeping(acceptor)) {
+                    //Skip simulating for acceptors that have been refusing energy until they wake up again
+                    continue;
+                }
+                long remainder = acceptor.insertEnergy(energyToSend, Action.SIMULATE);
+                if (remainder < energyToSend) {
+                    sleepingAcceptors.wake(acceptor);
+                    acceptorConsumer.accept(acceptor, energyToSend - remainder);
+                } else {
+                    sleepingAcceptors.refused(acceptor);
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend, energyToSend);
+    }
+
+    /**
+     * Gets how much energy the given acceptor still needs, so that acceptors that are sleeping get woken up again when they use or gain any energy.
+     */
+    private static long getNeededEnergy(IStrictEnergyHandler acceptor) {
+        long needed = 0L;
+        for (int container = 0, containers = acceptor.getEnergyContainerCount(); container < containers; container++) {
+            needed = MathUtils.addClamped(needed, acceptor.getNeededEnergy(container));
+        }
+        return needed;
+    }
+
+    @Override
+    public boolean gatherUpdate() {
+        if (energyContainer.isEmpty()) {
+            return false;
+        }
+        long energyToSend = energyContainer.getEnergy();
+        plannedTarget.start(energyToSend);
+        gatherAcceptors(energyToSend, plannedTarget::addDemand);
+        return plannedTarget.getHandlerCount() > 0;
+    }
+
+    @Override
+    public void planUpdate() {
+        plannedTarget.plan();
+    }
+
+    @Override
+    public long getLastTickTransfer() {
+        return prevTransferAmount;
     }
 
     @Override
@@ -129,9 +190,17 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
             needsUpdate = false;
         }
         if (energyContainer.isEmpty()) {
+            plannedTarget.clear();
             prevTransferAmount = 0L;
         } else {
-            prevTransferAmount = tickEmit(energyContainer.getEnergy());
+            long energyToSend = energyContainer.getEnergy();
+            if (plannedTarget.isPlannedFor(energyToSend)) {
+                prevTransferAmount = plannedTarget.execute((acceptor, amount) -> amount - acceptor.insertEnergy(amount, Action.EXECUTE));
+            } else {
+                //Either parallel ticking is disabled, or our energy changed since the plan was made
+                plannedTarget.clear();
+                prevTransferAmount = tickEmit(energyToSend);
+            }
             energyContainer.extract(prevTransferAmount, Action.EXECUTE, AutomationType.INTERNAL);
         }
     }
@@ -16,6 +16,7 @@ import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
 import mekanism.common.content.network.distribution.FluidHandlerTarget;
 import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
+import mekanism.common.lib.distribution.PlannedTarget;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.FluidUtils;
@@ -26,6 +27,7 @@ import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.FluidType;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler;
+import net.neoforged.neoforge.fluids.capability.IFluidHandler.FluidAction;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -35,6 +37,14 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     public final VariableCapacityFluidTank fluidTank;
     @NotNull
     public FluidStack lastFluid = FluidStack.EMPTY;
+    /**
+     * Target reused each tick for emitting, so that we don't have to allocate a new one every tick.
+     */
+    private final FluidHandlerTarget emitTarget = new FluidHandlerTarget();
+    /**
+     * Target used to split fluid between acceptors when parallel network ticking is enabled.
+     */
+    private final PlannedTarget<IFluidHandler> plannedTarget = new PlannedTarget<>();
     private int prevTransferAmount;
 
     //TODO: Make fluid storage support storing as longs?
@@ -151,15 +161,38 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
 
     private int tickEmit(@NotNull FluidStack fluidToSend) {
         Collection<Map<Direction, IFluidHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend, acceptorValues.size() * 2);
-        for (Map<Direction, IFluidHandler> acceptors : acceptorValues) {
-            for (IFluidHandler acceptor : acceptors.values()) {
-                if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                    target.addHandler(acceptor);
+        try {
+            for (Map<Direction, IFluidHandler> acceptors : acceptorValues) {
+                for (IFluidHandler acceptor : acceptors.values()) {
+                    if (FluidUtils.canFill(acceptor, fluidToSend)) {
+                        emitTarget.addHandler(acceptor);
+                    }
                 }
             }
+            return EmitUtils.sendToAcceptors(emitTarget, fluidToSend.getAmount(), fluidToSend);
+        } finally {
+            emitTarget.clear();
+        }
+    }
+
+    @Override
+    public boolean gatherUpdate() {
+        if (fluidTank.isEmpty()) {
+            return false;
+        }
+        FluidStack fluidToSend = fluidTank.getFluid();
+        plannedTarget.start(fluidToSend.getAmount());
+        for (Map<Direction, IFluidHandler> acceptors : acceptorCache.getAcceptorValues()) {
+            for (IFluidHandler acceptor : acceptors.values()) {
+                plannedTarget.addDemand(acceptor, acceptor.fill(fluidToSend, FluidAction.SIMULATE));
+            }
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        return plannedTarget.getHandlerCount() > 0;
+    }
+
+    @Override
+    public void planUpdate() {
+        plannedTarget.plan();
     }
 
     @Override
@@ -170,9 +203,17 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
             needsUpdate = false;
         }
         if (fluidTank.isEmpty()) {
+            plannedTarget.clear();
             prevTransferAmount = 0;
         } else {
-            prevTransferAmount = tickEmit(fluidTank.getFluid());
+            FluidStack fluidToSend = fluidTank.getFluid();
+            if (plannedTarget.isPlannedFor(fluidToSend.getAmount())) {
+                prevTransferAmount = (int) plannedTarget.execute((acceptor, amount) -> acceptor.fill(fluidToSend.copyWithAmount((int) amount), FluidAction.EXECUTE));
+            } else {
+                //Either parallel ticking is disabled, or our fluid changed since the plan was made
+                plannedTarget.clear();
+                prevTransferAmount = tickEmit(fluidToSend);
+            }
             MekanismUtils.logMismatchedStackSize(fluidTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
     }
@@ -189,6 +230,11 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         return ret;
     }
 
+    @Override
+    public long getLastTickTransfer() {
+        return prevTransferAmount;
+    }
+
     public int getPrevTransferAmount() {
         return prevTransferAmount;
     }
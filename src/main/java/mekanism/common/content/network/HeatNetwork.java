@@ -65,6 +65,11 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
         meanTemp = newSumTemp / transmittersSize();
     }
 
+    @Override
+    public long getLastTickTransfer() {
+        return Math.round(heatTransferred);
+    }
+
     @Override
     public String toString() {
         return "[HeatNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors.";
@@ -1,6 +1,8 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -14,6 +16,8 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.TransporterNetworkSnapshot;
+import mekanism.common.content.transporter.TransporterRoutingTable;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.lib.inventory.TransitRequest;
@@ -29,9 +33,26 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.neoforged.neoforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    /**
+     * Positions that changed since the last commit, used to only invalidate the cached paths that are affected.
+     */
+    private final LongSet changedPositions = new LongOpenHashSet();
+    /**
+     * Whether transporters were added since the last commit, in which case all the cached paths have to be invalidated.
+     */
+    private boolean transportersAdded;
+    /**
+     * Incremented whenever the transporters in this network change, so that paths found against an older snapshot can be discarded.
+     */
+    private int topologyVersion;
+    @Nullable
+    private TransporterNetworkSnapshot snapshot;
+    private final TransporterRoutingTable routingTable = new TransporterRoutingTable();
+
     public InventoryNetwork(UUID networkID) {
         super(networkID);
     }
@@ -91,20 +112,96 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    @Override
+    protected void addTransmitterFromCommit(LogisticalTransporterBase transmitter) {
+        super.addTransmitterFromCommit(transmitter);
+        //A new transporter may connect parts of the network in a way that provides a shorter route for any path
+        transportersAdded = true;
+    }
+
+    @Override
+    public List<LogisticalTransporterBase> adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
+        List<LogisticalTransporterBase> transmittersToUpdate = super.adoptTransmittersAndAcceptorsFrom(net);
+        //The adopted transporters may provide a shorter route for any path we had cached
+        PathfinderCache.onChanged(this);
+        markTopologyChanged();
+        return transmittersToUpdate;
+    }
+
+    @Override
+    public void acceptorChanged(LogisticalTransporterBase transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        //Paths to the acceptor end at its position
+        changedPositions.add(transmitter.getBlockPos().relative(side).asLong());
+    }
+
     @Override
     public void commit() {
         super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+        // update the cache when the network has been changed (called when transmitters or acceptors are added)
+        if (transportersAdded) {
+            transportersAdded = false;
+            changedPositions.clear();
+            PathfinderCache.onChanged(this);
+            markTopologyChanged();
+        } else if (!changedPositions.isEmpty()) {
+            PathfinderCache.onChanged(this, changedPositions);
+            routingTable.onChanged(changedPositions);
+            changedPositions.clear();
+            topologyVersion++;
+            snapshot = null;
+        }
     }
 
     @Override
     public void deregister() {
         super.deregister();
+        changedPositions.clear();
+        transportersAdded = false;
+        markTopologyChanged();
         // update the cache when the network has been removed (when transmitters are removed)
         PathfinderCache.onChanged(this);
     }
 
+    public int getTopologyVersion() {
+        return topologyVersion;
+    }
+
+    /**
+     * Gets a snapshot of the transporters in this network for finding paths off the server thread, creating it if the network changed since it was last requested.
+     */
+    public TransporterNetworkSnapshot getSnapshot() {
+        if (snapshot == null) {
+            snapshot = new TransporterNetworkSnapshot(getTransmitters());
+        }
+        return snapshot;
+    }
+
+    public TransporterRoutingTable getRoutingTable() {
+        return routingTable;
+    }
+
+    /**
+     * Marks that which sides the given transporter connects on changed without the network itself changing, such as when the redstone state of a diversion transporter
+     * changes.
+     */
+    public void transporterChanged(LogisticalTransporterBase transporter) {
+        LongSet positions = LongSet.of(transporter.getBlockPos().asLong());
+        PathfinderCache.onChanged(this, positions);
+        routingTable.onChanged(positions);
+        topologyVersion++;
+        snapshot = null;
+    }
+
+    /**
+     * Marks that the transporters in this network, or how they connect to each other, have changed.
+     */
+    public void markTopologyChanged() {
+        topologyVersion++;
+        snapshot = null;
+        routingTable.clear();
+    }
+
     @Override
     public String toString() {
         return "[InventoryNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors.";
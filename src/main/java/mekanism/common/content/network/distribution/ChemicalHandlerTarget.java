@@ -4,30 +4,28 @@ import mekanism.api.Action;
 import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IChemicalHandler;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.LongSplitInfo;
+import mekanism.common.lib.distribution.LongTarget;
 import mekanism.common.util.ChemicalUtil;
 import org.jetbrains.annotations.NotNull;
 
 public class ChemicalHandlerTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>>
-      extends Target<HANDLER, Long, @NotNull STACK> {
+      extends LongTarget<HANDLER, @NotNull STACK> {
 
-    public ChemicalHandlerTarget(@NotNull STACK type) {
-        this.extra = type;
+    public ChemicalHandlerTarget() {
     }
 
-    public ChemicalHandlerTarget(@NotNull STACK type, int expectedSize) {
+    public ChemicalHandlerTarget(int expectedSize) {
         super(expectedSize);
-        this.extra = type;
     }
 
     @Override
-    protected void acceptAmount(HANDLER handler, SplitInfo<Long> splitInfo, Long amount) {
-        splitInfo.send(amount - handler.insertChemical(ChemicalUtil.copyWithAmount(extra, amount), Action.EXECUTE).getAmount());
+    protected void acceptAmount(HANDLER handler, LongSplitInfo splitInfo, @NotNull STACK type, long amount) {
+        splitInfo.sendLong(amount - handler.insertChemical(ChemicalUtil.copyWithAmount(type, amount), Action.EXECUTE).getAmount());
     }
 
     @Override
-    protected Long simulate(HANDLER handler, @NotNull STACK stack) {
+    protected long simulate(HANDLER handler, @NotNull STACK stack, long amount) {
         return stack.getAmount() - handler.insertChemical(stack, Action.SIMULATE).getAmount();
     }
 }
\ No newline at end of file
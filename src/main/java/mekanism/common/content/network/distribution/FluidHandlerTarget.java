@@ -1,36 +1,28 @@
 package mekanism.common.content.network.distribution;
 
-import java.util.Collection;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.IntTarget;
+import mekanism.common.lib.distribution.IntegerSplitInfo;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler.FluidAction;
 import org.jetbrains.annotations.NotNull;
 
-public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NotNull FluidStack> {
+public class FluidHandlerTarget extends IntTarget<IFluidHandler, @NotNull FluidStack> {
 
-    public FluidHandlerTarget(@NotNull FluidStack type) {
-        this.extra = type;
+    public FluidHandlerTarget() {
     }
 
-    public FluidHandlerTarget(@NotNull FluidStack type, Collection<IFluidHandler> allHandlers) {
-        super(allHandlers);
-        this.extra = type;
-    }
-
-    public FluidHandlerTarget(@NotNull FluidStack type, int expectedSize) {
+    public FluidHandlerTarget(int expectedSize) {
         super(expectedSize);
-        this.extra = type;
     }
 
     @Override
-    protected void acceptAmount(IFluidHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
-        splitInfo.send(handler.fill(extra.copyWithAmount(amount), FluidAction.EXECUTE));
+    protected void acceptAmount(IFluidHandler handler, IntegerSplitInfo splitInfo, @NotNull FluidStack type, int amount) {
+        splitInfo.sendInt(handler.fill(type.copyWithAmount(amount), FluidAction.EXECUTE));
     }
 
     @Override
-    protected Integer simulate(IFluidHandler handler, @NotNull FluidStack fluidStack) {
+    protected int simulate(IFluidHandler handler, @NotNull FluidStack fluidStack, int amount) {
         return handler.fill(fluidStack, FluidAction.SIMULATE);
     }
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
@@ -58,6 +59,7 @@ public class DiversionTransporter extends LogisticalTransporterBase {
                 // or it will not properly tell the neighboring connections that
                 // it is no longer valid
                 markDirtyTransmitters();
+                onConnectionsChanged();
             }
 
             //If the mode reqs being met changed, we need to update our stored value and update if there is a cap exposed
@@ -148,10 +150,19 @@ public class DiversionTransporter extends LogisticalTransporterBase {
             }
             refreshConnections();
             notifyTileChange();
+            onConnectionsChanged();
             transmitterTile.sendUpdatePacket();
         }
     }
 
+    private void onConnectionsChanged() {
+        InventoryNetwork network = getTransmitterNetwork();
+        if (network != null) {
+            //Routes through this transporter may have been added or removed
+            network.transporterChanged(this);
+        }
+    }
+
     @Override
     public InteractionResult onRightClick(Player player, Direction side) {
         side = getTransmitterTile().getSideLookingAt(player, side);
@@ -11,8 +11,13 @@ import java.util.UUID;
 import mekanism.api.SerializationConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.transporter.AsyncTransporterPathfinder;
+import mekanism.common.content.transporter.AsyncTransporterPathfinder.PendingPath;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterPathfinder;
+import mekanism.common.content.transporter.TransporterPathfinder.Destination;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
@@ -151,10 +156,22 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                 for (Int2ObjectMap.Entry<TransporterStack> entry : transit.int2ObjectEntrySet()) {
                     int stackId = entry.getIntKey();
                     TransporterStack stack = entry.getValue();
+                    if (stack.pendingPath != null) {
+                        if (!stack.pendingPath.isDone()) {
+                            //Wait in place until the new path has been found
+                            continue;
+                        } else if (!applyPendingPath(stackId, stack)) {
+                            deletes.add(stackId);
+                            continue;
+                        }
+                    }
                     if (!stack.initiatedPath) {//Initiate any paths and remove things that can't go places
                         if (stack.itemStack.isEmpty() || !recalculate(stackId, stack, null)) {
                             deletes.add(stackId);
                             continue;
+                        } else if (stack.pendingPath != null) {
+                            //Wait in place until the path has been found
+                            continue;
                         }
                     }
 
@@ -379,9 +396,48 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         transit.put(id, s);
     }
 
-    private boolean recalculate(int stackId, TransporterStack stack, BlockPos from) {
+    private boolean recalculate(int stackId, TransporterStack stack, @Nullable BlockPos from) {
+        if (MekanismConfig.general.asyncTransporterPathfinding.get() && stack.getPathType().hasTarget()) {
+            if (stack.pendingPath != null) {
+                return true;
+            }
+            stack.pendingPath = AsyncTransporterPathfinder.request(this, stack, from);
+            if (stack.pendingPath != null) {
+                return true;
+            }
+        }
+        return recalculateNow(stackId, stack, from);
+    }
+
+    /**
+     * Applies the path that was found off the server thread for the given stack, or finds a new one now if it is no longer valid.
+     *
+     * @return {@code false} if the stack was dropped as there was nowhere for it to go.
+     */
+    private boolean applyPendingPath(int stackId, TransporterStack stack) {
+        PendingPath pending = stack.pendingPath;
+        stack.pendingPath = null;
+        InventoryNetwork network = getTransmitterNetwork();
+        if (pending.isCurrent(this)) {
+            Destination destination = pending.getBestDestination(this);
+            if (destination == null) {
+                //The network is unchanged and there was nowhere to send the stack, no need to search again
+                return finishRecalculate(stackId, stack, pending.from(), true);
+            } else if (TransporterPathfinder.canFollowPath(network, destination.getPath(), stack)) {
+                stack.setDestination(this, destination);
+                return finishRecalculate(stackId, stack, pending.from(), false);
+            }
+        }
+        return recalculateNow(stackId, stack, pending.from());
+    }
+
+    private boolean recalculateNow(int stackId, TransporterStack stack, @Nullable BlockPos from) {
         //TODO: Why do we skip recalculating the path if it is idle. Is it possible for idle paths to eventually stop being idle or are they just idle forever??
         boolean noPath = stack.getPathType().noTarget() || stack.recalculatePath(TransitRequest.simple(stack.itemStack), this, 0).isEmpty();
+        return finishRecalculate(stackId, stack, from, noPath);
+    }
+
+    private boolean finishRecalculate(int stackId, TransporterStack stack, @Nullable BlockPos from, boolean noPath) {
         if (noPath && !stack.calculateIdle(this)) {
             TransporterUtils.drop(this, stack);
             return false;
@@ -459,6 +515,8 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         // in a batch on a per-tick basis.
         int stackId = nextId++;
         stack.progress = progress;
+        //Paths that are still being found start from the transporter the stack was in, so drop it and let this transporter recalculate as needed
+        stack.pendingPath = null;
         addStack(stackId, stack);
         needsSync.put(stackId, stack);
 
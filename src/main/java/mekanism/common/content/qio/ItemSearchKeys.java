@@ -0,0 +1,99 @@
+package mekanism.common.content.qio;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import mekanism.common.base.TagCache;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.TooltipFlag.Default;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lower case search keys of an item type, calculated once per type so that testing a {@link SearchQueryParser.ISearchQuery} against the type doesn't have to look up the
+ * name, mod id, tags and tooltip of the stack each time. The tooltip is only calculated the first time a tooltip query needs it, as it is by far the most expensive to
+ * look up. Only use on client-side, and only create or call {@link #loadTooltip()} on the client thread, as looking up the keys fires events. Other threads should check
+ * {@link #hasTooltip()} before calling {@link #getTooltip()}.
+ */
+public class ItemSearchKeys {
+
+    private final ItemStack stack;
+    @Nullable
+    private final Level level;
+    private final String name;
+    private final String modID;
+    private final List<String> tags;
+    @Nullable
+    private volatile List<String> tooltip;
+
+    public ItemSearchKeys(@Nullable Level level, ItemStack stack) {
+        this.level = level;
+        this.stack = stack;
+        this.name = stack.getHoverName().getString().toLowerCase(Locale.ROOT);
+        this.modID = MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT);
+        this.tags = toLowerCase(TagCache.getItemTags(stack));
+    }
+
+    private static List<String> toLowerCase(List<String> values) {
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        List<String> lowerCase = new ArrayList<>(values.size());
+        for (String value : values) {
+            lowerCase.add(value.toLowerCase(Locale.ROOT));
+        }
+        return lowerCase;
+    }
+
+    public ItemStack getStack() {
+        return stack;
+    }
+
+    @Nullable
+    public Level getLevel() {
+        return level;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getModID() {
+        return modID;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Looks up the tooltip so that {@link #getTooltip()} can then be safely called from other threads.
+     */
+    public void loadTooltip() {
+        getTooltip();
+    }
+
+    /**
+     * @return {@code true} if the tooltip has already been looked up.
+     */
+    public boolean hasTooltip() {
+        return tooltip != null;
+    }
+
+    public List<String> getTooltip() {
+        List<String> tooltip = this.tooltip;
+        if (tooltip == null) {
+            List<Component> tooltipLines = stack.getTooltipLines(Item.TooltipContext.of(level), null, Default.NORMAL);
+            List<String> lines = new ArrayList<>(tooltipLines.size());
+            for (Component tooltipLine : tooltipLines) {
+                lines.add(tooltipLine.getString().toLowerCase(Locale.ROOT));
+            }
+            tooltip = lines;
+            this.tooltip = tooltip;
+        }
+        return tooltip;
+    }
+}
\ No newline at end of file
@@ -10,24 +10,44 @@ import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.registries.MekanismDataComponents;
 import mekanism.common.util.RegistryUtils;
 import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
 public class QIODriveData {
 
     private final QIODriveKey key;
     private final long countCapacity;
     private final int typeCapacity;
-    private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
+    private final Object2LongMap<HashedItem> itemMap;
     private long itemCount;
+    /** If the item map has changed since it was last saved to the drive stack. */
+    private boolean dirty;
+    /** Index of this drive in the frequency it is part of, used to track which drives contain each item type. */
+    private int index = -1;
+    /** If updating the drive stack should wait until the current batch of operations has finished. */
+    private boolean deferUpdates;
+    private boolean hasDeferredUpdate;
 
     public QIODriveData(QIODriveKey key) {
+        this(key, null);
+    }
+
+    /**
+     * @param loadedItems The contents of the drive if they have already been loaded from the drive stack, or {@code null} to load them now.
+     */
+    public QIODriveData(QIODriveKey key, @Nullable Object2LongMap<HashedItem> loadedItems) {
         this.key = key;
         ItemStack driveStack = key.getDriveStack();
         IQIODriveItem driveItem = (IQIODriveItem) driveStack.getItem();
         // load capacity values
         countCapacity = driveItem.getCountCapacity(driveStack);
         typeCapacity = driveItem.getTypeCapacity(driveStack);
-        // load item map from drive stack
-        driveStack.getOrDefault(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.EMPTY).loadItemMap(this);
+        if (loadedItems == null) {
+            // load item map from drive stack
+            itemMap = new Object2LongOpenHashMap<>();
+            driveStack.getOrDefault(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.EMPTY).loadItemMap(this);
+        } else {
+            itemMap = loadedItems;
+        }
         // update cached item count value
         itemCount = itemMap.values().longStream().sum();
 
@@ -44,8 +64,8 @@ public class QIODriveData {
         if (action.execute()) {
             itemMap.put(type, stored + toAdd);
             itemCount += toAdd;
-            key.updateMetadata(this);
-            key.dataUpdate();
+            dirty = true;
+            onContentsChanged();
         }
         return amount - toAdd;
     }
@@ -61,10 +81,48 @@ public class QIODriveData {
                 itemMap.removeLong(type);
             }
             itemCount -= removed;
+            dirty = true;
+            onContentsChanged();
+        }
+        return removed;
+    }
+
+    private void onContentsChanged() {
+        if (deferUpdates) {
+            hasDeferredUpdate = true;
+        } else {
             key.updateMetadata(this);
             key.dataUpdate();
         }
-        return removed;
+    }
+
+    /**
+     * Defers updating the drive stack until {@link #flushUpdates()} is called.
+     */
+    void deferUpdates() {
+        deferUpdates = true;
+    }
+
+    /**
+     * Stops deferring updates, and updates the drive stack if the contents changed while updates were deferred.
+     */
+    void flushUpdates() {
+        deferUpdates = false;
+        if (hasDeferredUpdate) {
+            hasDeferredUpdate = false;
+            onContentsChanged();
+        }
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Marks that the current item map has been saved to the drive stack.
+     */
+    public void markSaved() {
+        dirty = false;
     }
 
     public long getStored(HashedItem type) {
@@ -75,6 +133,14 @@ public class QIODriveData {
         return itemMap;
     }
 
+    int getIndex() {
+        return index;
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
     public QIODriveKey getKey() {
         return key;
     }
@@ -0,0 +1,72 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import mekanism.common.attachments.qio.DriveContents;
+import mekanism.common.lib.inventory.HashedItem;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Loads the contents of QIO drives on a background thread, so that adding drives that store a lot of item types doesn't stall the server thread. Only resolving the
+ * stored item types happens in the background, the loaded contents are merged into the frequency on the server thread.
+ */
+public class QIODriveLoader {
+
+    @Nullable
+    private static ExecutorService executor;
+    //Note: Replaced rather than reset when the executor is, so that loads that were still running when it was shut down can't affect the count
+    private static AtomicInteger inFlight = new AtomicInteger();
+
+    private QIODriveLoader() {
+    }
+
+    public static CompletableFuture<Object2LongMap<HashedItem>> load(DriveContents contents) {
+        AtomicInteger counter = inFlight;
+        counter.incrementAndGet();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return contents.resolveItemMap();
+                } finally {
+                    counter.decrementAndGet();
+                }
+            }, getExecutor());
+        } catch (RejectedExecutionException e) {
+            counter.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * @return {@code true} if there are drives that have been submitted for loading and haven't finished resolving their types yet.
+     *
+     * @implNote Loads are only submitted from the server thread, so if this returns {@code false} on the server thread, nothing is reading the
+     * {@link QIOGlobalItemLookup} in the background until the server thread submits another load.
+     */
+    public static boolean isLoading() {
+        return inFlight.get() > 0;
+    }
+
+    private static ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Mekanism QIO Drive Loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    public static void reset() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        inFlight = new AtomicInteger();
+    }
+}
\ No newline at end of file
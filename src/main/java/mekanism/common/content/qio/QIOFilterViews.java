@@ -0,0 +1,171 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
+import mekanism.common.content.qio.filter.QIOFilter;
+import mekanism.common.content.qio.filter.QIOItemStackFilter;
+import mekanism.common.content.qio.filter.QIOModIDFilter;
+import mekanism.common.content.qio.filter.QIOTagFilter;
+import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.SharedConstants;
+import net.minecraft.world.item.Item;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Materialized views of the item types in a {@link QIOFrequency} that match a set of filters. Views are built the first time they are requested, and then kept up to date
+ * as types are added to and removed from the frequency, so that things like exporters can read the matching types instead of looking them up on every operation.
+ * Views that haven't been requested in a while are discarded.
+ */
+public class QIOFilterViews {
+
+    private static final int MAX_IDLE_TICKS = 5 * SharedConstants.TICKS_PER_SECOND;
+
+    private final Map<List<ViewFilter>, View> views = new Object2ObjectOpenHashMap<>();
+    private final BiConsumer<ViewFilter, Consumer<QIOItemTypeData>> matchCollector;
+
+    /**
+     * @param matchCollector Collects the types currently stored in the frequency that match the given filter.
+     */
+    QIOFilterViews(BiConsumer<ViewFilter, Consumer<QIOItemTypeData>> matchCollector) {
+        this.matchCollector = matchCollector;
+    }
+
+    /**
+     * Converts the given filters into the form used to look up views.
+     *
+     * @return The view filters, skipping any filters that can't match anything.
+     */
+    public static List<ViewFilter> toViewFilters(List<? extends QIOFilter<?>> filters) {
+        List<ViewFilter> viewFilters = new ArrayList<>(filters.size());
+        for (QIOFilter<?> filter : filters) {
+            ViewFilter viewFilter = toViewFilter(filter);
+            if (viewFilter != null) {
+                viewFilters.add(viewFilter);
+            }
+        }
+        return viewFilters;
+    }
+
+    @Nullable
+    private static ViewFilter toViewFilter(QIOFilter<?> filter) {
+        return switch (filter) {
+            case QIOItemStackFilter itemFilter when itemFilter.getItemStack().isEmpty() -> null;
+            case QIOItemStackFilter itemFilter when itemFilter.fuzzyMode -> new ItemFilter(itemFilter.getItemStack().getItem());
+            case QIOItemStackFilter itemFilter -> new TypeFilter(HashedItem.create(itemFilter.getItemStack()));
+            case QIOTagFilter tagFilter -> new TagFilter(tagFilter.getTagName());
+            case QIOModIDFilter modIDFilter -> new ModIDFilter(modIDFilter.getModID());
+            default -> null;
+        };
+    }
+
+    Collection<QIOItemTypeData> getView(List<ViewFilter> filters, long tick) {
+        View view = views.get(filters);
+        if (view == null) {
+            view = new View(filters);
+            for (ViewFilter filter : filters) {
+                matchCollector.accept(filter, view.types::add);
+            }
+            views.put(filters, view);
+        }
+        view.lastAccess = tick;
+        return view.types;
+    }
+
+    void onTypeAdded(QIOItemTypeData data, List<String> tags, String modID) {
+        for (View view : views.values()) {
+            if (view.matches(data.getItemType(), tags, modID)) {
+                view.types.add(data);
+            }
+        }
+    }
+
+    void onTypeRemoved(QIOItemTypeData data) {
+        for (View view : views.values()) {
+            view.types.remove(data);
+        }
+    }
+
+    /**
+     * Discards any views that haven't been requested recently.
+     */
+    void prune(long tick) {
+        if (!views.isEmpty()) {
+            views.values().removeIf(view -> tick - view.lastAccess > MAX_IDLE_TICKS);
+        }
+    }
+
+    void clear() {
+        views.clear();
+    }
+
+    public sealed interface ViewFilter {
+
+        boolean matches(HashedItem type, List<String> tags, String modID);
+    }
+
+    record TypeFilter(HashedItem type) implements ViewFilter {
+
+        @Override
+        public boolean matches(HashedItem type, List<String> tags, String modID) {
+            return this.type.equals(type);
+        }
+    }
+
+    record ItemFilter(Item item) implements ViewFilter {
+
+        @Override
+        public boolean matches(HashedItem type, List<String> tags, String modID) {
+            return type.getItem() == item;
+        }
+    }
+
+    record TagFilter(String wildcard) implements ViewFilter {
+
+        @Override
+        public boolean matches(HashedItem type, List<String> tags, String modID) {
+            for (String tag : tags) {
+                if (WildcardMatcher.matches(wildcard, tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    record ModIDFilter(String wildcard) implements ViewFilter {
+
+        @Override
+        public boolean matches(HashedItem type, List<String> tags, String modID) {
+            return WildcardMatcher.matches(wildcard, modID);
+        }
+    }
+
+    private static class View {
+
+        private final List<ViewFilter> filters;
+        private final Set<QIOItemTypeData> types = new ReferenceOpenHashSet<>();
+        private long lastAccess;
+
+        private View(List<ViewFilter> filters) {
+            this.filters = filters;
+        }
+
+        private boolean matches(HashedItem type, List<String> tags, String modID) {
+            for (ViewFilter filter : filters) {
+                if (filter.matches(type, tags, modID)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
\ No newline at end of file
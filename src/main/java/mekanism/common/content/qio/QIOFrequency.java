@@ -8,6 +8,8 @@ import io.netty.buffer.ByteBuf;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -17,10 +19,11 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.SequencedMap;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
@@ -34,8 +37,15 @@ import mekanism.api.security.SecurityMode;
 import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
+import mekanism.common.attachments.qio.DriveContents;
 import mekanism.common.base.TagCache;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.content.qio.QIOFilterViews.ItemFilter;
+import mekanism.common.content.qio.QIOFilterViews.ModIDFilter;
+import mekanism.common.content.qio.QIOFilterViews.TagFilter;
+import mekanism.common.content.qio.QIOFilterViews.TypeFilter;
+import mekanism.common.content.qio.QIOFilterViews.ViewFilter;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.WildcardMatcher;
 import mekanism.common.lib.collection.BiMultimap;
@@ -47,6 +57,7 @@ import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.lib.security.SecurityFrequency;
 import mekanism.common.network.to_client.qio.PacketBatchItemViewerSync;
 import mekanism.common.network.to_client.qio.PacketUpdateItemViewer;
+import mekanism.common.registries.MekanismDataComponents;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.SharedConstants;
 import net.minecraft.network.codec.ByteBufCodecs;
@@ -63,6 +74,7 @@ import org.jetbrains.annotations.Nullable;
 public class QIOFrequency extends Frequency implements IColorableFrequency, IQIOFrequency {
 
     private static final RandomSource rand = RandomSource.create();
+    private static final long[] NO_DRIVES = new long[0];
     public static final Codec<QIOFrequency> CODEC = RecordCodecBuilder.create(instance -> baseCodec(instance)
           .and(EnumColor.CODEC.fieldOf(SerializationConstants.COLOR).forGetter(QIOFrequency::getColor))
           .apply(instance, (name, owner, securityMode, color) -> {
@@ -88,7 +100,11 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     );
 
     private final SequencedMap<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
-    private final SequencedMap<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
+    // drives whose contents are being loaded in the background, they are added to the frequency on the first tick after they finish loading
+    private final Map<QIODriveKey, CompletableFuture<Object2LongMap<HashedItem>>> loadingDrives = new HashMap<>();
+    private final Object2ObjectLinkedOpenHashMap<HashedItem, QIOItemTypeData> itemDataMap = new Object2ObjectLinkedOpenHashMap<>();
+    //Drive index -> drive, with null for any indices that are not currently in use
+    private QIODriveData[] drivesByIndex = new QIODriveData[0];
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
     // efficiently keep track of the tags utilized by the items stored
     private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
@@ -102,8 +118,10 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     // a sensitive cache for wildcard modid lookups (wildcard -> [matching modids])
     private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
     private final Set<String> failedWildcardModIDs = new HashSet<>();
+    private final QIOFilterViews filterViews = new QIOFilterViews(this::collectMatching);
 
-    private final Set<UUID> updatedItems = new HashSet<>();
+    //Item -> tick the item last changed on, for items that have changed since the last update was sent to viewers
+    private final Object2LongMap<UUID> updatedItems = new Object2LongOpenHashMap<>();
     private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
@@ -112,6 +130,20 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private boolean isDirty;
 
     private long totalCount, totalCountCapacity;
+    // metrics about how much drive data has been written since the frequency was loaded
+    private long saves, drivesSaved, drivesSkipped, entriesSaved, bytesSaved, saveNanos, lastSaveNanos;
+    // operations performed since the start of the current second, published to throughput once the second is over
+    private long inserts, extracts, itemsInserted, itemsExtracted, typesAdded, typesRemoved;
+    private QIOThroughputStats throughput = QIOThroughputStats.NONE;
+    // ticks this frequency has been ticked for, used to rate limit the updates sent to viewers
+    private long ticks;
+    //Note: Starts far enough in the past that the first update is never delayed, the max interval is one second
+    private long lastViewerUpdate = -SharedConstants.TICKS_PER_SECOND;
+    private long lastViewerChange = Long.MIN_VALUE;
+    // number of item changes that would have been sent to each viewer if we sent an update every tick they changed
+    private int pendingViewerEntries;
+    // metrics about the updates sent to viewers since the frequency was loaded
+    private long viewerPacketsSent, viewerPacketsCoalesced, viewerEntriesSent, viewerEntriesCoalesced;
     private int totalTypeCapacity;
     // only used on client side, for server side we can just look at itemDataMap.size()
     private int clientTypes;
@@ -140,15 +172,15 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     @Override
     public void forAllStored(ObjLongConsumer<ItemStack> consumer) {
-        for (Entry<HashedItem, QIOItemTypeData> entry : itemDataMap.entrySet()) {
-            consumer.accept(entry.getKey().createStack(1), entry.getValue().getCount());
+        for (QIOItemTypeData data : itemDataMap.values()) {
+            consumer.accept(data.itemType.createStack(1), data.count);
         }
     }
 
     @Override
     public void forAllHashedStored(ObjLongConsumer<IHashedItem> consumer) {
-        for (Entry<HashedItem, QIOItemTypeData> entry : itemDataMap.entrySet()) {
-            consumer.accept(entry.getKey(), entry.getValue().getCount());
+        for (QIOItemTypeData data : itemDataMap.values()) {
+            consumer.accept(data.itemType, data.count);
         }
     }
 
@@ -157,20 +189,43 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (stack.isEmpty() || amount <= 0) {
             return 0;
         }
-        HashedItem type = action.execute() ? HashedItem.create(stack) : HashedItem.raw(stack);
+        return insert(HashedItem.raw(stack), amount, action);
+    }
+
+    @Override
+    public long[] massInsert(List<ItemStack> types, long[] amounts, Action action) {
+        long[] inserted = new long[types.size()];
+        deferDriveUpdates(action);
+        try {
+            for (int i = 0; i < inserted.length; i++) {
+                ItemStack stack = types.get(i);
+                if (!stack.isEmpty() && amounts[i] > 0) {
+                    inserted[i] = insert(HashedItem.raw(stack), amounts[i], action);
+                }
+            }
+        } finally {
+            flushDriveUpdates(action);
+        }
+        return inserted;
+    }
+
+    /**
+     * @param type Type to insert, this may be a raw type as a copy is made if the type isn't already stored.
+     */
+    private long insert(HashedItem type, long amount, Action action) {
+        QIOItemTypeData data = itemDataMap.get(type);
         // these checks are extremely important; they prevent us from wasting CPU searching for a place to put the new items,
         // and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
-        if (totalCount == totalCountCapacity || (!itemDataMap.containsKey(type) && itemDataMap.size() == totalTypeCapacity)) {
+        if (totalCount == totalCountCapacity || (data == null && itemDataMap.size() == totalTypeCapacity)) {
             return 0;
         }
         // at this point we're guaranteed at least part of the input stack will be inserted
-        QIOItemTypeData data;
-        if (action.execute()) {
-            data = itemDataMap.computeIfAbsent(type, this::createTypeDataForAbsent);
-        } else {
-            //If we are simulating, look it up
-            data = itemDataMap.get(type);
-            if (data == null) {
+        if (data == null) {
+            if (action.execute()) {
+                HashedItem storedType = HashedItem.create(type.getInternalStack());
+                data = createTypeDataForAbsent(storedType);
+                itemDataMap.put(storedType, data);
+            } else {
                 // if it doesn't already have that type, fall back to a new item type data that doesn't actually get added
                 data = new QIOItemTypeData(type);
             }
@@ -204,6 +259,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     private QIOItemTypeData createTypeDataForAbsent(HashedItem type) {
+        typesAdded++;
         ItemStack stack = type.getInternalStack();
         List<String> tags = TagCache.getItemTags(stack);
         if (!tags.isEmpty()) {
@@ -230,15 +286,40 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
         //Ensure we have a matching uuid for this item
         QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
-        return new QIOItemTypeData(type);
+        QIOItemTypeData data = new QIOItemTypeData(type);
+        filterViews.onTypeAdded(data, tags, modID);
+        return data;
     }
 
     @Override
     public long massExtract(ItemStack stack, long amount, Action action) {
-        if (amount <= 0 || stack.isEmpty() || itemDataMap.isEmpty()) {
+        if (stack.isEmpty()) {
+            return 0;
+        }
+        return extract(HashedItem.raw(stack), amount, action);
+    }
+
+    @Override
+    public long[] massExtract(List<ItemStack> types, long[] amounts, Action action) {
+        long[] extracted = new long[types.size()];
+        deferDriveUpdates(action);
+        try {
+            for (int i = 0; i < extracted.length; i++) {
+                ItemStack stack = types.get(i);
+                if (!stack.isEmpty()) {
+                    extracted[i] = extract(HashedItem.raw(stack), amounts[i], action);
+                }
+            }
+        } finally {
+            flushDriveUpdates(action);
+        }
+        return extracted;
+    }
+
+    private long extract(HashedItem type, long amount, Action action) {
+        if (amount <= 0 || itemDataMap.isEmpty()) {
             return 0;
         }
-        HashedItem type = HashedItem.raw(stack);
         QIOItemTypeData data = itemDataMap.get(type);
         if (data == null) {
             return 0;
@@ -269,9 +350,8 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
         QIOItemTypeData data;
         if (itemType == null) {
-            Map.Entry<HashedItem, QIOItemTypeData> entry = itemDataMap.firstEntry();
-            itemType = entry.getKey();
-            data = entry.getValue();
+            itemType = itemDataMap.firstKey();
+            data = itemDataMap.get(itemType);
         } else {
             data = itemDataMap.get(itemType);
             if (data == null) {
@@ -288,7 +368,11 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     private void removeItemData(HashedItem type) {
-        itemDataMap.remove(type);
+        QIOItemTypeData data = itemDataMap.remove(type);
+        if (data != null) {
+            typesRemoved++;
+            filterViews.onTypeRemoved(data);
+        }
         //Note: We need to copy the tags to a new collection as otherwise when we start removing them from the lookup
         // they will also get removed from this view
         Set<String> tags = new HashSet<>(tagLookupMap.getKeys(type));
@@ -409,13 +493,54 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         return added;
     }
 
+    /**
+     * Gets a view of the stored item types that match any of the given filters. The view is kept up to date as types are added and removed, and should not be modified.
+     *
+     * @param filters Filters as created by {@link QIOFilterViews#toViewFilters(List)}.
+     */
+    public Collection<QIOItemTypeData> getFilterView(List<ViewFilter> filters) {
+        return filterViews.getView(filters, ticks);
+    }
+
+    private void collectMatching(ViewFilter filter, Consumer<QIOItemTypeData> consumer) {
+        switch (filter) {
+            case TypeFilter typeFilter -> collectMatching(Collections.singleton(typeFilter.type()), consumer);
+            case ItemFilter itemFilter -> collectMatching(fuzzyItemLookupMap.get(itemFilter.item()), consumer);
+            case TagFilter tagFilter -> {
+                if (hasMatchingElements(tagWildcardCache, failedWildcardTags, tagFilter.wildcard(), tagLookupMap::getAllKeys)) {
+                    for (String match : tagWildcardCache.get(tagFilter.wildcard())) {
+                        collectMatching(tagLookupMap.getValues(match), consumer);
+                    }
+                }
+            }
+            case ModIDFilter modIDFilter -> {
+                if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, modIDFilter.wildcard(), modIDLookupMap::keySet)) {
+                    for (String match : modIDWildcardCache.get(modIDFilter.wildcard())) {
+                        collectMatching(modIDLookupMap.get(match), consumer);
+                    }
+                }
+            }
+        }
+    }
+
+    private void collectMatching(@Nullable Set<HashedItem> items, Consumer<QIOItemTypeData> consumer) {
+        if (items != null) {
+            for (HashedItem item : items) {
+                QIOItemTypeData data = itemDataMap.get(item);
+                if (data != null) {
+                    consumer.accept(data);
+                }
+            }
+        }
+    }
+
     public void openItemViewer(ServerPlayer player) {
         playersViewingItems.add(player);
         Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(itemDataMap.size());
         for (QIOItemTypeData data : itemDataMap.values()) {
             map.put(new UUIDAwareHashedItem(data.itemType, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(data.itemType)), data.count);
         }
-        PacketDistributor.sendToPlayer(player, new PacketBatchItemViewerSync(totalCountCapacity, totalTypeCapacity, map));
+        PacketDistributor.sendToPlayer(player, new PacketBatchItemViewerSync(totalCountCapacity, totalTypeCapacity, QIOItemTypeDictionary.encode(player, map)));
     }
 
     public void closeItemViewer(ServerPlayer player) {
@@ -480,6 +605,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     @Override
     public boolean tick(boolean tickingNormally) {
         boolean superDirty = super.tick(tickingNormally);
+        if (!loadingDrives.isEmpty()) {
+            addLoadedDrives();
+        }
 
         if (getSecurity() == SecurityMode.TRUSTED && !playersViewingItems.isEmpty()) {
             //TODO - 1.20.4: Only perform every so often?
@@ -494,30 +622,43 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             }
         }
 
-        if (!updatedItems.isEmpty() || needsUpdate) {
-            //Only calculate the packet and the update map if there are actually players viewing this frequency,
-            // otherwise we can just skip looking up UUIDs and counts
-            Lazy<PacketUpdateItemViewer> lazyPacket = Lazy.of(() -> {
+        boolean hasViewerChanges = !updatedItems.isEmpty() || needsUpdate;
+        if (hasViewerChanges && ticks - lastViewerUpdate < MekanismConfig.general.qioViewerSyncInterval.get()) {
+            //We sent an update recently, wait so that any changes get combined into a single update
+            if (lastViewerChange == ticks) {
+                viewerPacketsCoalesced += playersViewingItems.size();
+            }
+        } else if (hasViewerChanges) {
+            lastViewerUpdate = ticks;
+            //Only calculate the update map if there are actually players viewing this frequency,
+            // otherwise we can just skip looking up UUIDs and counts. The packet itself is built per player as
+            // which types need to be sent in full depends on what the player has already been sent
+            Lazy<Object2LongMap<UUIDAwareHashedItem>> lazyMap = Lazy.of(() -> {
                 Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
-                for (UUID uuid : updatedItems) {
+                for (UUID uuid : updatedItems.keySet()) {
                     HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
                     if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
                         QIOItemTypeData data = itemDataMap.get(type);
                         map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
                     }
                 }
-                return new PacketUpdateItemViewer(totalCountCapacity, totalTypeCapacity, map);
+                return map;
             });
             for (Iterator<ServerPlayer> viewingIterator = playersViewingItems.iterator(); viewingIterator.hasNext(); ) {
                 ServerPlayer player = viewingIterator.next();
                 if (player.containerMenu instanceof QIOItemViewerContainer) {
-                    PacketDistributor.sendToPlayer(player, lazyPacket.get());
+                    PacketDistributor.sendToPlayer(player, new PacketUpdateItemViewer(totalCountCapacity, totalTypeCapacity,
+                          QIOItemTypeDictionary.encode(player, lazyMap.get())));
+                    viewerPacketsSent++;
+                    viewerEntriesSent += updatedItems.size();
+                    viewerEntriesCoalesced += pendingViewerEntries - updatedItems.size();
                 } else {
                     //flush players that somehow didn't send a container close packet
                     viewingIterator.remove();
                 }
             }
             updatedItems.clear();
+            pendingViewerEntries = 0;
             needsUpdate = false;
         }
         // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
@@ -538,7 +679,17 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             for (QIOItemTypeData item : itemDataMap.values()) {
                 tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getInternalStack()), item.itemType);
             }
+            //The tags of the stored types may have changed, so rebuild any views the next time they are requested
+            filterViews.clear();
+        } else if (ticks % SharedConstants.TICKS_PER_SECOND == 0) {
+            filterViews.prune(ticks);
         }
+        if (ticks % SharedConstants.TICKS_PER_SECOND == 0) {
+            throughput = new QIOThroughputStats(inserts, extracts, itemsInserted, itemsExtracted, typesAdded, typesRemoved);
+            inserts = extracts = itemsInserted = itemsExtracted = typesAdded = typesRemoved = 0;
+        }
+        //Note: We increment this at the end so that changes made between now and the next time we tick are counted as part of the next tick
+        ticks++;
         return superDirty;
     }
 
@@ -576,6 +727,10 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             removeDrive(key, false);
         }
         driveMap.clear();
+        for (CompletableFuture<Object2LongMap<HashedItem>> loading : loadingDrives.values()) {
+            loading.cancel(false);
+        }
+        loadingDrives.clear();
         for (ServerPlayer player : playersViewingItems) {
             Mekanism.packetHandler().killItemViewer(player);
         }
@@ -593,27 +748,75 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public void addDrive(QIODriveKey key) {
-        if (key.getDriveStack().getItem() instanceof IQIODriveItem) {
+        ItemStack driveStack = key.getDriveStack();
+        if (driveStack.getItem() instanceof IQIODriveItem) {
             // if a drive in this position is already in the system, we remove it before adding this one
-            if (driveMap.containsKey(key)) {
+            if (driveMap.containsKey(key) || loadingDrives.containsKey(key)) {
                 removeDrive(key, true);
             }
-            // add drive and capacity info to core tracking
-            QIODriveData data = new QIODriveData(key);
-            totalCountCapacity += data.getCountCapacity();
-            totalTypeCapacity += data.getTypeCapacity();
-            driveMap.put(key, data);
-            for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
-                HashedItem storedKey = entry.getKey();
-                itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, entry.getLongValue());
-                markForUpdate(storedKey);
+            if (MekanismConfig.general.qioAsyncDriveLoading.get()) {
+                DriveContents contents = driveStack.getOrDefault(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.EMPTY);
+                if (!contents.namedItemMap().isEmpty()) {
+                    loadingDrives.put(key, QIODriveLoader.load(contents));
+                    return;
+                }
             }
-            setNeedsUpdate();
+            addDrive(new QIODriveData(key));
+        }
+    }
+
+    /**
+     * Adds any drives that have finished loading in the background.
+     */
+    private void addLoadedDrives() {
+        for (Iterator<Map.Entry<QIODriveKey, CompletableFuture<Object2LongMap<HashedItem>>>> iterator = loadingDrives.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<QIODriveKey, CompletableFuture<Object2LongMap<HashedItem>>> entry = iterator.next();
+            CompletableFuture<Object2LongMap<HashedItem>> future = entry.getValue();
+            if (future.isDone()) {
+                iterator.remove();
+                QIODriveKey key = entry.getKey();
+                if (key.getDriveStack().getItem() instanceof IQIODriveItem) {
+                    Object2LongMap<HashedItem> loadedItems = null;
+                    if (future.isCompletedExceptionally()) {
+                        Mekanism.logger.error("Failed to load QIO drive contents in the background, loading them on the server thread instead.", future.exceptionNow());
+                    } else {
+                        loadedItems = future.resultNow();
+                    }
+                    addDrive(new QIODriveData(key, loadedItems));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if any of the drives in this frequency are still loading, and the items stored in them can't be accessed yet.
+     */
+    public boolean isLoading() {
+        return !loadingDrives.isEmpty();
+    }
+
+    private void addDrive(QIODriveData data) {
+        QIODriveKey key = data.getKey();
+        // add drive and capacity info to core tracking
+        data.setIndex(allocateDriveIndex(data));
+        totalCountCapacity += data.getCountCapacity();
+        totalTypeCapacity += data.getTypeCapacity();
+        driveMap.put(key, data);
+        for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
+            HashedItem storedKey = entry.getKey();
+            itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, entry.getLongValue());
+            markForUpdate(storedKey);
         }
+        setNeedsUpdate();
     }
 
     public void removeDrive(QIODriveKey key, boolean updateItemMap) {
-        if (!driveMap.containsKey(key)) {
+        CompletableFuture<Object2LongMap<HashedItem>> loading = loadingDrives.remove(key);
+        if (loading != null) {
+            //The drive hasn't been added yet, so we only need to stop loading it
+            loading.cancel(false);
+            return;
+        } else if (!driveMap.containsKey(key)) {
             return;
         }
         QIODriveData data = driveMap.get(key);
@@ -623,12 +826,12 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
                 long value = entry.getLongValue();
                 QIOItemTypeData itemData = itemDataMap.get(storedKey);
                 if (itemData != null) {
-                    itemData.containingDrives.remove(key);
+                    itemData.removeContainingDrive(data.getIndex());
                     itemData.count -= value;
                     totalCount -= value;
                     markForUpdate(storedKey);
                     // remove this entry from the item data map if it's now empty
-                    if (itemData.containingDrives.isEmpty() || itemData.count == 0) {
+                    if (!itemData.hasContainingDrives() || itemData.count == 0) {
                         removeItemData(storedKey);
                     }
                 }
@@ -639,45 +842,170 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         totalCountCapacity -= data.getCountCapacity();
         totalTypeCapacity -= data.getTypeCapacity();
         driveMap.remove(key);
+        drivesByIndex[data.getIndex()] = null;
         // save the item list onto the physical drive
-        key.updateMetadata(data);
-        key.save(data);
+        saveDrive(data);
+    }
+
+    /**
+     * Defers updating the drive stacks until {@link #flushDriveUpdates(Action)} is called, so that a batch of operations only updates each drive once.
+     */
+    private void deferDriveUpdates(Action action) {
+        if (action.execute()) {
+            for (QIODriveData data : driveMap.values()) {
+                data.deferUpdates();
+            }
+        }
+    }
+
+    private void flushDriveUpdates(Action action) {
+        if (action.execute()) {
+            for (QIODriveData data : driveMap.values()) {
+                data.flushUpdates();
+            }
+        }
+    }
+
+    private int allocateDriveIndex(QIODriveData data) {
+        int index = 0;
+        while (index < drivesByIndex.length && drivesByIndex[index] != null) {
+            index++;
+        }
+        if (index == drivesByIndex.length) {
+            drivesByIndex = Arrays.copyOf(drivesByIndex, Math.max(8, 2 * drivesByIndex.length));
+        }
+        drivesByIndex[index] = data;
+        return index;
     }
 
     public void saveAll() {
-        for (Entry<QIODriveKey, QIODriveData> entry : driveMap.entrySet()) {
-            QIODriveKey key = entry.getKey();
-            QIODriveData value = entry.getValue();
-            key.updateMetadata(value);
-            key.save(value);
+        long start = System.nanoTime();
+        saves++;
+        for (QIODriveData data : driveMap.values()) {
+            saveDrive(data);
         }
+        lastSaveNanos = System.nanoTime() - start;
+        saveNanos += lastSaveNanos;
+    }
+
+    /**
+     * Saves the item list onto the physical drive, if it has changed since it was last saved. The metadata is kept up to date whenever the contents change, so we
+     * only need to rebuild the contents.
+     */
+    private void saveDrive(QIODriveData data) {
+        if (data.isDirty()) {
+            data.getKey().save(data);
+            data.markSaved();
+            int entries = data.getTotalTypes();
+            drivesSaved++;
+            entriesSaved += entries;
+            //Each entry is stored as three longs, see DriveContents#serializeItemMap
+            bytesSaved += 3L * Long.BYTES * entries + Integer.BYTES;
+        } else {
+            drivesSkipped++;
+        }
+    }
+
+    public QIOSaveStats getSaveStats() {
+        return new QIOSaveStats(saves, drivesSaved, drivesSkipped, entriesSaved, bytesSaved, saveNanos, lastSaveNanos);
     }
 
     private void setNeedsUpdate(@Nullable HashedItem changedItem) {
         isDirty = true;
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
             needsUpdate = true;
+            lastViewerChange = ticks;
             if (changedItem != null) {
-                updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+                markForUpdate(changedItem);
             }
         }
     }
 
     private void markForUpdate(HashedItem changedItem) {
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
-            updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+            UUID uuid = QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem);
+            if (!updatedItems.containsKey(uuid) || updatedItems.getLong(uuid) != ticks) {
+                //First time the item changed this tick
+                updatedItems.put(uuid, ticks);
+                pendingViewerEntries++;
+            }
+            lastViewerChange = ticks;
         }
     }
 
+    /**
+     * @return The operations performed on the frequency during the last full second it was ticked for.
+     */
+    public QIOThroughputStats getThroughputStats() {
+        return throughput;
+    }
+
+    public QIOViewerSyncStats getViewerSyncStats() {
+        return new QIOViewerSyncStats(viewerPacketsSent, viewerPacketsCoalesced, viewerEntriesSent, viewerEntriesCoalesced);
+    }
+
     private void setNeedsUpdate() {
         setNeedsUpdate(null);
     }
 
+    /**
+     * Totals since the frequency was loaded.
+     *
+     * @param saves         Number of times all the drives in the frequency have been saved.
+     * @param drivesSaved   Number of times the contents of a drive have been written to the drive stack.
+     * @param drivesSkipped Number of times writing the contents of a drive was skipped as they had not changed.
+     * @param entriesSaved  Number of item types that have been written.
+     * @param bytesSaved    Approximate number of bytes the written contents take up when serialized.
+     * @param saveNanos     Total time spent saving the drives.
+     * @param lastSaveNanos Time the most recent save took.
+     */
+    public record QIOSaveStats(long saves, long drivesSaved, long drivesSkipped, long entriesSaved, long bytesSaved, long saveNanos, long lastSaveNanos) {
+
+        public double entriesPerSave() {
+            return saves == 0 ? 0 : entriesSaved / (double) saves;
+        }
+
+        public double bytesPerSave() {
+            return saves == 0 ? 0 : bytesSaved / (double) saves;
+        }
+
+        public double nanosPerSave() {
+            return saves == 0 ? 0 : saveNanos / (double) saves;
+        }
+    }
+
+    /**
+     * Operations performed on the frequency over a single second.
+     *
+     * @param inserts        Number of times items were inserted.
+     * @param extracts       Number of times items were extracted.
+     * @param itemsInserted  Number of items inserted.
+     * @param itemsExtracted Number of items extracted.
+     * @param typesAdded     Number of item types that started being stored, including from drives being added.
+     * @param typesRemoved   Number of item types that stopped being stored, including from drives being removed.
+     */
+    public record QIOThroughputStats(long inserts, long extracts, long itemsInserted, long itemsExtracted, long typesAdded, long typesRemoved) {
+
+        public static final QIOThroughputStats NONE = new QIOThroughputStats(0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Totals since the frequency was loaded, counted per viewer.
+     *
+     * @param packetsSent      Number of updates sent to viewers.
+     * @param packetsCoalesced Number of updates that would have been sent to viewers if changes were sent every tick, but were instead combined into later updates.
+     * @param entriesSent      Number of item counts sent to viewers.
+     * @param entriesCoalesced Number of item counts that were not sent as the item changed again before the update was sent.
+     */
+    public record QIOViewerSyncStats(long packetsSent, long packetsCoalesced, long entriesSent, long entriesCoalesced) {
+    }
+
     public class QIOItemTypeData {
 
         private final HashedItem itemType;
         private long count = 0;
-        private final Set<QIODriveKey> containingDrives = new HashSet<>();
+        //Bitset of the indices of the drives that contain this type
+        private long[] containingDrives = NO_DRIVES;
 
         public QIOItemTypeData(HashedItem itemType) {
             this.itemType = itemType;
@@ -686,23 +1014,54 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         private void addFromDrive(QIODriveData data, long toAdd) {
             count += toAdd;
             totalCount += toAdd;
-            containingDrives.add(data.getKey());
+            addContainingDrive(data.getIndex());
             setNeedsUpdate();
         }
 
+        private void addContainingDrive(int index) {
+            int word = index >> 6;
+            if (word >= containingDrives.length) {
+                containingDrives = Arrays.copyOf(containingDrives, word + 1);
+            }
+            containingDrives[word] |= 1L << index;
+        }
+
+        private void removeContainingDrive(int index) {
+            int word = index >> 6;
+            if (word < containingDrives.length) {
+                containingDrives[word] &= ~(1L << index);
+            }
+        }
+
+        private boolean isContainedIn(int index) {
+            int word = index >> 6;
+            return word < containingDrives.length && (containingDrives[word] & (1L << index)) != 0;
+        }
+
+        private boolean hasContainingDrives() {
+            for (long bits : containingDrives) {
+                if (bits != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         private long add(long amount, Action action) {
             long toAdd = amount;
             // first we try to add the items to an already-containing drive
-            for (QIODriveKey key : containingDrives) {
-                toAdd = addItemsToDrive(toAdd, driveMap.get(key), action);
-                if (toAdd == 0) {
-                    break;
+            for (int word = 0; word < containingDrives.length && toAdd > 0; word++) {
+                long bits = containingDrives[word];
+                while (bits != 0 && toAdd > 0) {
+                    QIODriveData data = drivesByIndex[(word << 6) + Long.numberOfTrailingZeros(bits)];
+                    bits &= bits - 1;
+                    toAdd = addItemsToDrive(toAdd, data, action);
                 }
             }
             // next, we add the items to any drive that will take it
             if (toAdd > 0) {
                 for (QIODriveData data : driveMap.values()) {
-                    if (!containingDrives.contains(data.getKey())) {
+                    if (!isContainedIn(data.getIndex())) {
                         toAdd = addItemsToDrive(toAdd, data, action);
                         if (toAdd == 0) {
                             break;
@@ -714,6 +1073,10 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
                 // update internal/core values
                 count += amount - toAdd;
                 totalCount += amount - toAdd;
+                if (toAdd < amount) {
+                    inserts++;
+                    itemsInserted += amount - toAdd;
+                }
                 setNeedsUpdate(itemType);
             }
             return toAdd;
@@ -722,28 +1085,34 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         private long addItemsToDrive(long toAdd, QIODriveData data, Action action) {
             long rejects = data.add(itemType, toAdd, action);
             if (action.execute() && rejects < toAdd) {
-                containingDrives.add(data.getKey());
+                addContainingDrive(data.getIndex());
             }
             return rejects;
         }
 
         private long remove(long amount, Action action) {
             long removed = 0;
-            for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
-                QIODriveData data = driveMap.get(iter.next());
-                removed += data.remove(itemType, amount - removed, action);
-                // remove this drive from containingDrives if it doesn't have this item anymore
-                if (action.execute() && data.getStored(itemType) == 0) {
-                    iter.remove();
-                }
-                // break early if we found enough items
-                if (removed == amount) {
-                    break;
+            // break early if we found enough items
+            for (int word = 0; word < containingDrives.length && removed < amount; word++) {
+                long bits = containingDrives[word];
+                while (bits != 0 && removed < amount) {
+                    int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    QIODriveData data = drivesByIndex[index];
+                    removed += data.remove(itemType, amount - removed, action);
+                    // remove this drive from containingDrives if it doesn't have this item anymore
+                    if (action.execute() && data.getStored(itemType) == 0) {
+                        containingDrives[word] &= ~(1L << index);
+                    }
                 }
             }
             if (action.execute()) {
                 count -= removed;
                 totalCount -= removed;
+                if (removed > 0) {
+                    extracts++;
+                    itemsExtracted += removed;
+                }
                 setNeedsUpdate(itemType);
             }
             return removed;
@@ -754,6 +1123,10 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return removed == 0 ? ItemStack.EMPTY : itemType.createStack(removed);
         }
 
+        public HashedItem getItemType() {
+            return itemType;
+        }
+
         public long getCount() {
             return count;
         }
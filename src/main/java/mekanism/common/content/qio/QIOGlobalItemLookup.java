@@ -15,9 +15,6 @@ import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-//TODO - 1.19: Keep track of UUIDs synced to a given player, and clear when they disconnect. How quickly does the memory impact grow for the user to cache them??
-// Maybe have the client send a thing like: No I can't cache them for if it only has a certain amount of ram?
-// In theory that should drastically cut down the network packet sizes
 public class QIOGlobalItemLookup {
 
     public static final QIOGlobalItemLookup INSTANCE = new QIOGlobalItemLookup();
@@ -31,7 +28,7 @@ public class QIOGlobalItemLookup {
      */
     @Nullable
     private QIOGlobalItemLookupDataHandler dataHandler;
-    //TODO - 1.19: Do we need to worry about synchronization for this map?
+    //Note: Access to the cache is only synchronized while drive contents are being resolved on a background thread, see QIODriveLoader#isLoading
     //keep track of a UUID for each hashed item. Note every hashed item in this can be assumed to be serializable
     // we only don't store them as such for the generic so that we don't have to create extra objects for purposes
     // of getting the uuid for a given item type
@@ -39,6 +36,11 @@ public class QIOGlobalItemLookup {
 
     @Nullable
     public UUID getUUIDForType(HashedItem item) {
+        if (QIODriveLoader.isLoading()) {
+            synchronized (this) {
+                return itemCache.inverse().get(item);
+            }
+        }
         return itemCache.inverse().get(item);
     }
 
@@ -46,6 +48,15 @@ public class QIOGlobalItemLookup {
      * @apiNote Only call this with non-raw hashed items
      */
     public UUID getOrTrackUUID(HashedItem item) {
+        if (QIODriveLoader.isLoading()) {
+            synchronized (this) {
+                return trackUUID(item);
+            }
+        }
+        return trackUUID(item);
+    }
+
+    private UUID trackUUID(HashedItem item) {
         //TODO - 1.19: Do we want this/other methods to error if we are called before the save data is loaded?
         //Note: Unlike for getUUIDForType we have to wrap the hashed item into a SerializedHashedItem here in case it isn't present
         // as we want to make sure only serialized hashed items are put into the map
@@ -63,7 +74,14 @@ public class QIOGlobalItemLookup {
 
     @Nullable
     public HashedItem getTypeByUUID(@Nullable UUID uuid) {
-        return uuid == null ? null : itemCache.get(uuid);
+        if (uuid == null) {
+            return null;
+        } else if (QIODriveLoader.isLoading()) {
+            synchronized (this) {
+                return itemCache.get(uuid);
+            }
+        }
+        return itemCache.get(uuid);
     }
 
     private void markDirty() {
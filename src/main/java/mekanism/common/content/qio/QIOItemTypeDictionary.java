@@ -0,0 +1,126 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import mekanism.common.Mekanism;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import net.minecraft.core.UUIDUtil;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Session dictionary of the item types that have been synced to a player for viewing the items in a QIO frequency. The full stack of each item type is only sent the
+ * first time a player needs it, after which the type is referred to by a small integer id until the player disconnects.
+ */
+public class QIOItemTypeDictionary {
+
+    private static final StreamCodec<RegistryFriendlyByteBuf, UUIDAwareHashedItem> TYPE_CODEC = StreamCodec.composite(
+          ItemStack.STREAM_CODEC, HashedItem::getInternalStack,
+          ByteBufCodecs.optional(UUIDUtil.STREAM_CODEC), item -> Optional.ofNullable(item.getUUID()),
+          (stack, uuid) -> new UUIDAwareHashedItem(stack, uuid.orElse(null))
+    );
+    public static final StreamCodec<RegistryFriendlyByteBuf, List<ItemEntry>> ENTRIES_CODEC = ByteBufCodecs.collection(ArrayList::new, StreamCodec.composite(
+          ByteBufCodecs.VAR_INT, ItemEntry::id,
+          ByteBufCodecs.optional(TYPE_CODEC), entry -> Optional.ofNullable(entry.type()),
+          ByteBufCodecs.VAR_LONG, ItemEntry::count,
+          (id, type, count) -> new ItemEntry(id, type.orElse(null), count)
+    ));
+
+    private static final Map<UUID, ServerDictionary> SERVER_DICTIONARIES = new Object2ObjectOpenHashMap<>();
+    private static final Int2ObjectMap<UUIDAwareHashedItem> CLIENT_TYPES = new Int2ObjectOpenHashMap<>();
+
+    private QIOItemTypeDictionary() {
+    }
+
+    /**
+     * Converts the given item counts into entries to send to the given player, assigning ids to any types the player hasn't been sent yet. Must be called on the
+     * server thread, and the entries must be sent to the player.
+     */
+    public static List<ItemEntry> encode(ServerPlayer player, Object2LongMap<UUIDAwareHashedItem> itemMap) {
+        ServerDictionary dictionary = SERVER_DICTIONARIES.computeIfAbsent(player.getUUID(), uuid -> new ServerDictionary());
+        List<ItemEntry> entries = new ArrayList<>(itemMap.size());
+        for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : itemMap.object2LongEntrySet()) {
+            UUIDAwareHashedItem type = entry.getKey();
+            UUID uuid = type.getUUID();
+            if (uuid == null) {
+                //Should never happen as types are given a UUID before being synced, but if it does we can't reference it by id
+                continue;
+            }
+            int id = dictionary.ids.getInt(uuid);
+            if (id == -1) {
+                //First time this player is being sent the type, include the full type with it
+                id = dictionary.ids.size();
+                dictionary.ids.put(uuid, id);
+                entries.add(new ItemEntry(id, type, entry.getLongValue()));
+            } else {
+                entries.add(new ItemEntry(id, null, entry.getLongValue()));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Converts received entries back into item counts, storing the types of any entries that include them. Must be called on the client thread.
+     */
+    public static Object2LongMap<UUIDAwareHashedItem> decode(List<ItemEntry> entries) {
+        Object2LongMap<UUIDAwareHashedItem> itemMap = new Object2LongOpenHashMap<>(entries.size());
+        for (ItemEntry entry : entries) {
+            UUIDAwareHashedItem type = entry.type();
+            if (type == null) {
+                type = CLIENT_TYPES.get(entry.id());
+                if (type == null) {
+                    Mekanism.logger.warn("Received unknown QIO item type id: {}", entry.id());
+                    continue;
+                }
+            } else {
+                CLIENT_TYPES.put(entry.id(), type);
+            }
+            itemMap.put(type, entry.count());
+        }
+        return itemMap;
+    }
+
+    public static void clearPlayer(UUID player) {
+        SERVER_DICTIONARIES.remove(player);
+    }
+
+    public static void reset() {
+        SERVER_DICTIONARIES.clear();
+    }
+
+    public static void resetClient() {
+        CLIENT_TYPES.clear();
+    }
+
+    /**
+     * @param id    Id of the item type in the player's dictionary.
+     * @param type  The item type, if this is the first time it has been sent to the player.
+     * @param count Amount of the item stored in the frequency.
+     */
+    public record ItemEntry(int id, @Nullable UUIDAwareHashedItem type, long count) {
+    }
+
+    private static class ServerDictionary {
+
+        private final Object2IntMap<UUID> ids = new Object2IntOpenHashMap<>();
+
+        private ServerDictionary() {
+            ids.defaultReturnValue(-1);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,365 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import mekanism.common.Mekanism;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.inventory.ISlotClickHandler.IScrollableSlot;
+import mekanism.common.inventory.container.QIOItemViewerContainer.ListSortType;
+import mekanism.common.inventory.container.QIOItemViewerContainer.SortDirection;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sorted and searched list of the items in a QIO item viewer. Sorting and searching happen on a background thread so that viewing large frequencies doesn't stall
+ * rendering, and the results are published for the render thread to pick up once they are ready. When only some items change they are merged into the existing sorted
+ * list rather than sorting everything again.
+ *
+ * @apiNote Only used on the client. The names and tags of the items are looked up on the client thread when the items are received, as looking them up fires events
+ * that mods expect to be fired on the client thread. Tooltips are much more expensive to look up, so once a search needs them they are looked up a batch at a time each
+ * client tick by {@link #tick()}, and searches that need them only include the types whose tooltips have been looked up so far.
+ */
+public class QIOItemViewerList {
+
+    private static final int MAX_CACHED_SEARCHES = 16;
+    //Number of items to check between checking if the search has been superseded
+    private static final int CANCEL_CHECK_INTERVAL = 256;
+    //Number of tooltips to look up each client tick
+    private static final int TOOLTIPS_PER_TICK = 128;
+
+    @Nullable
+    private static ExecutorService executor;
+
+    //Note: The following are only accessed on the client thread
+    @Nullable
+    private final Level level;
+    private Map<UUID, TypeData> typeData = new Object2ObjectOpenHashMap<>();
+    //Whether a search has needed the tooltips of the items, in which case we look them up for any new items as well
+    private boolean loadTooltips;
+    private final Queue<TypeData> tooltipsToLoad = new ArrayDeque<>();
+
+    //Note: The following are only accessed on the worker thread
+    private List<ItemSlotData> sorted = new ArrayList<>();
+    private final Map<UUID, ItemSlotData> slotsByUUID = new Object2ObjectOpenHashMap<>();
+    //Note: Access ordered, with the most recently used searches at the end
+    private final Object2ObjectLinkedOpenHashMap<String, List<ItemSlotData>> searchCache = new Object2ObjectLinkedOpenHashMap<>();
+    private Comparator<IScrollableSlot> comparator;
+    private String query = "";
+    private ISearchQuery parsedQuery = SearchQueryParser.parse("");
+
+    //Incremented each time the search changes, so that searches that have been superseded can stop early
+    private final AtomicInteger searchVersion = new AtomicInteger();
+    private volatile Result result = new Result(Collections.emptyList(), "", Collections.emptyList());
+
+    public QIOItemViewerList(@Nullable Level level, ListSortType sortType, SortDirection sortDirection) {
+        this.level = level;
+        this.comparator = sortType.getComparator(sortDirection);
+    }
+
+    /**
+     * Replaces all the items in the list.
+     */
+    public void setItems(Object2LongMap<UUIDAwareHashedItem> items) {
+        Map<UUID, TypeData> newTypeData = new Object2ObjectOpenHashMap<>(items.size());
+        List<ItemSlotData> slots = new ArrayList<>(items.size());
+        for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : items.object2LongEntrySet()) {
+            UUIDAwareHashedItem item = entry.getKey();
+            TypeData data = getTypeData(item);
+            newTypeData.put(item.getUUID(), data);
+            slots.add(new ItemSlotData(item, item.getUUID(), entry.getLongValue(), data));
+        }
+        typeData = newTypeData;
+        if (loadTooltips) {
+            //Drop any types that are no longer present from the queue
+            tooltipsToLoad.clear();
+            queueTooltips(typeData.values());
+        }
+        submit(version -> rebuild(version, slots));
+    }
+
+    /**
+     * Updates the counts of the given items, removing any that have a count of zero.
+     */
+    public void updateItems(Object2LongMap<UUIDAwareHashedItem> changed) {
+        List<ItemSlotData> slots = new ArrayList<>(changed.size());
+        for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : changed.object2LongEntrySet()) {
+            UUIDAwareHashedItem item = entry.getKey();
+            long count = entry.getLongValue();
+            TypeData data;
+            if (count == 0) {
+                data = typeData.remove(item.getUUID());
+                if (data == null) {
+                    continue;
+                }
+            } else {
+                data = getTypeData(item);
+                typeData.put(item.getUUID(), data);
+            }
+            slots.add(new ItemSlotData(item, item.getUUID(), count, data));
+        }
+        if (!slots.isEmpty()) {
+            submit(version -> update(version, slots));
+        }
+    }
+
+    public void setSort(ListSortType sortType, SortDirection sortDirection) {
+        Comparator<IScrollableSlot> newComparator = sortType.getComparator(sortDirection);
+        submit(version -> {
+            comparator = newComparator;
+            sorted.sort(comparator);
+            //The matches of the cached searches don't change, so just sort them as well
+            for (List<ItemSlotData> matches : searchCache.values()) {
+                matches.sort(comparator);
+            }
+            publish(version);
+        });
+    }
+
+    public void setSearch(String query) {
+        ISearchQuery parsed = SearchQueryParser.parse(query);
+        if (!loadTooltips && parsed.needsTooltips()) {
+            //Start looking up the tooltips, the search will be performed again as more of them get loaded
+            loadTooltips = true;
+            queueTooltips(typeData.values());
+        }
+        searchVersion.incrementAndGet();
+        submit(version -> {
+            this.query = query;
+            this.parsedQuery = parsed;
+            publish(version);
+        });
+    }
+
+    /**
+     * Looks up the next batch of tooltips if a search has needed them, and then searches again so that the newly loaded types are included.
+     *
+     * @apiNote Only call on the client thread.
+     */
+    public void tick() {
+        boolean loaded = false;
+        for (int i = 0; i < TOOLTIPS_PER_TICK && !tooltipsToLoad.isEmpty(); i++) {
+            ItemSearchKeys searchKeys = tooltipsToLoad.poll().searchKeys();
+            if (!searchKeys.hasTooltip()) {
+                searchKeys.loadTooltip();
+                loaded = true;
+            }
+        }
+        if (loaded) {
+            submit(version -> {
+                //Any of the cached searches may have needed the tooltips, so just clear them all
+                searchCache.clear();
+                if (parsedQuery.needsTooltips()) {
+                    publish(version);
+                }
+            });
+        }
+    }
+
+    private void queueTooltips(Collection<TypeData> types) {
+        for (TypeData data : types) {
+            if (!data.searchKeys().hasTooltip()) {
+                tooltipsToLoad.add(data);
+            }
+        }
+    }
+
+    /**
+     * @return The most recently sorted list of all the items.
+     */
+    public List<IScrollableSlot> getItems() {
+        return result.items();
+    }
+
+    /**
+     * @return The items matching the most recently completed search. This may be for an older query if the search for the current one hasn't finished yet.
+     */
+    public List<IScrollableSlot> getSearchResults() {
+        return result.searchResults();
+    }
+
+    private TypeData getTypeData(UUIDAwareHashedItem item) {
+        TypeData data = typeData.get(item.getUUID());
+        if (data == null) {
+            ItemStack stack = item.getInternalStack();
+            data = new TypeData(stack.getHoverName().getString(), MekanismUtils.getModId(stack), new ItemSearchKeys(level, stack));
+            if (loadTooltips) {
+                tooltipsToLoad.add(data);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Runs the given task on the worker thread.
+     *
+     * @param task Task to run, is passed the search version at the time the task was submitted.
+     */
+    private void submit(IntConsumer task) {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Mekanism QIO Viewer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        int version = searchVersion.get();
+        executor.execute(() -> {
+            try {
+                task.accept(version);
+            } catch (RuntimeException e) {
+                Mekanism.logger.error("Failed to update QIO item viewer list.", e);
+            }
+        });
+    }
+
+    private void rebuild(int version, List<ItemSlotData> slots) {
+        slotsByUUID.clear();
+        for (ItemSlotData slot : slots) {
+            slotsByUUID.put(slot.itemUUID(), slot);
+        }
+        slots.sort(comparator);
+        sorted = slots;
+        searchCache.clear();
+        publish(version);
+    }
+
+    private void update(int version, List<ItemSlotData> changed) {
+        Set<ItemSlotData> removed = new ReferenceOpenHashSet<>();
+        //Old slot -> new slot for types that only had their count change
+        Map<ItemSlotData, ItemSlotData> recounted = new Reference2ObjectOpenHashMap<>();
+        List<ItemSlotData> added = new ArrayList<>(changed.size());
+        boolean typesChanged = false;
+        for (ItemSlotData slot : changed) {
+            ItemSlotData old = slot.count() == 0 ? slotsByUUID.remove(slot.itemUUID()) : slotsByUUID.put(slot.itemUUID(), slot);
+            if (old != null) {
+                removed.add(old);
+                if (slot.count() > 0) {
+                    recounted.put(old, slot);
+                } else {
+                    typesChanged = true;
+                }
+            } else if (slot.count() > 0) {
+                typesChanged = true;
+            }
+            if (slot.count() > 0) {
+                added.add(slot);
+            }
+        }
+        if (!removed.isEmpty()) {
+            sorted.removeIf(removed::contains);
+        }
+        if (added.size() > sorted.size() / 8) {
+            //Enough changed that it is cheaper to just sort everything again
+            sorted.addAll(added);
+            sorted.sort(comparator);
+        } else {
+            for (ItemSlotData slot : added) {
+                int index = Collections.binarySearch(sorted, slot, comparator);
+                sorted.add(index < 0 ? -index - 1 : index, slot);
+            }
+        }
+        if (typesChanged) {
+            //Types were added or removed, so the searches have to be done again
+            searchCache.clear();
+        } else if (!recounted.isEmpty()) {
+            //Only counts changed, which doesn't change which types match a search, so just update the counts and sort the matches again
+            for (List<ItemSlotData> matches : searchCache.values()) {
+                matches.replaceAll(slot -> recounted.getOrDefault(slot, slot));
+                matches.sort(comparator);
+            }
+        }
+        publish(version);
+    }
+
+    private void publish(int version) {
+        if (searchVersion.get() != version) {
+            //The search was changed after this task was submitted, skip publishing as the task for the new search will publish once it finishes
+            return;
+        }
+        List<IScrollableSlot> items = List.copyOf(sorted);
+        List<IScrollableSlot> searchResults;
+        if (query.isEmpty()) {
+            searchResults = items;
+        } else {
+            List<ItemSlotData> matches = search(version);
+            if (matches == null) {
+                return;
+            }
+            searchResults = List.copyOf(matches);
+        }
+        result = new Result(items, query, searchResults);
+    }
+
+    /**
+     * @return The items that match the current query, or {@code null} if the search was superseded before it finished.
+     */
+    @Nullable
+    private List<ItemSlotData> search(int version) {
+        List<ItemSlotData> cached = searchCache.getAndMoveToLast(query);
+        if (cached != null) {
+            return cached;
+        }
+        List<ItemSlotData> matches = new ArrayList<>();
+        //Skip any types whose tooltips haven't been looked up yet, they will be included once the client thread gets to them and searches again
+        boolean needsTooltips = parsedQuery.needsTooltips();
+        for (int i = 0, size = sorted.size(); i < size; i++) {
+            if (i % CANCEL_CHECK_INTERVAL == 0 && searchVersion.get() != version) {
+                //The search was changed, skip finishing this one as the new search will be published once it finishes
+                return null;
+            }
+            ItemSlotData slot = sorted.get(i);
+            ItemSearchKeys searchKeys = slot.data().searchKeys();
+            if ((!needsTooltips || searchKeys.hasTooltip()) && parsedQuery.test(searchKeys)) {
+                matches.add(slot);
+            }
+        }
+        searchCache.putAndMoveToLast(query, matches);
+        if (searchCache.size() > MAX_CACHED_SEARCHES) {
+            searchCache.removeFirst();
+        }
+        return matches;
+    }
+
+    private record Result(List<IScrollableSlot> items, String query, List<IScrollableSlot> searchResults) {
+    }
+
+    /**
+     * Keys of an item type, looked up on the client thread when the type is first received and then shared by all the slots of that type.
+     */
+    private record TypeData(String displayName, String modID, ItemSearchKeys searchKeys) {
+    }
+
+    private record ItemSlotData(HashedItem item, UUID itemUUID, long count, TypeData data) implements IScrollableSlot {
+
+        @Override
+        public String getDisplayName() {
+            return data.displayName();
+        }
+
+        @Override
+        public String getModID() {
+            return data.modID();
+        }
+    }
+}
\ No newline at end of file
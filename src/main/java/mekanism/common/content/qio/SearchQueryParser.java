@@ -185,8 +185,10 @@ public class SearchQueryParser {
 
     public enum QueryType {
         // ~ is a dummy char, not actually used by parser
-        NAME('~', (level, key, stack) -> stack.getHoverName().getString().toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        MOD_ID('@', (level, key, stack) -> MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
+        NAME('~', (level, key, stack) -> stack.getHoverName().getString().toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT)),
+              (keys, key) -> keys.getName().contains(key)),
+        MOD_ID('@', (level, key, stack) -> MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT)),
+              (keys, key) -> keys.getModID().contains(key)),
         TOOLTIP('$', (level, key, stack) -> {
             List<Component> tooltipLines = stack.getTooltipLines(Item.TooltipContext.of(level), null, Default.NORMAL);
             if (!tooltipLines.isEmpty()) {
@@ -199,7 +201,7 @@ public class SearchQueryParser {
                 }
             }
             return false;
-        }),
+        }, (keys, key) -> anyContains(keys.getTooltip(), key)),
         TAG('#', (level, key, stack) -> {
             List<String> itemTags = TagCache.getItemTags(stack);
             if (!itemTags.isEmpty()) {
@@ -211,7 +213,7 @@ public class SearchQueryParser {
                 }
             }
             return false;
-        });
+        }, (keys, key) -> anyContains(keys.getTags(), key));
 
         private static final Char2ObjectMap<QueryType> charLookupMap;
 
@@ -233,20 +235,65 @@ public class SearchQueryParser {
 
         private final char prefix;
         private final TriPredicate<@Nullable Level, String, ItemStack> checker;
+        private final BiPredicate<ItemSearchKeys, String> keyChecker;
 
-        QueryType(char prefix, TriPredicate<@Nullable Level, String, ItemStack> checker) {
+        QueryType(char prefix, TriPredicate<@Nullable Level, String, ItemStack> checker, BiPredicate<ItemSearchKeys, String> keyChecker) {
             this.prefix = prefix;
             this.checker = checker;
+            this.keyChecker = keyChecker;
+        }
+
+        private static boolean anyContains(List<String> values, String key) {
+            for (String value : values) {
+                if (value.contains(key)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         public boolean matches(@Nullable Level level, String key, ItemStack stack) {
             return checker.test(level, key, stack);
         }
+
+        /**
+         * @param lowerKey Key to match, must already be lower case.
+         */
+        public boolean matches(ItemSearchKeys keys, String lowerKey) {
+            return keyChecker.test(keys, lowerKey);
+        }
     }
 
     public static class SearchQuery implements ISearchQuery {
 
         private final Map<QueryType, List<String>> queryStrings = new LinkedHashMap<>();
+        private CompiledKeys[] compiledKeys = new CompiledKeys[0];
+
+        /**
+         * Lower cases all the keys ahead of time so that testing against {@link ItemSearchKeys} doesn't need to do so for every item.
+         */
+        private void compile() {
+            compiledKeys = new CompiledKeys[queryStrings.size()];
+            int i = 0;
+            for (Entry<QueryType, List<String>> entry : queryStrings.entrySet()) {
+                List<String> keys = entry.getValue();
+                String[] lowerKeys = new String[keys.size()];
+                for (int j = 0; j < lowerKeys.length; j++) {
+                    lowerKeys[j] = keys.get(j).toLowerCase(Locale.ROOT);
+                }
+                compiledKeys[i++] = new CompiledKeys(entry.getKey(), lowerKeys);
+            }
+        }
+
+        @Override
+        public boolean test(ItemSearchKeys keys) {
+            for (CompiledKeys compiled : compiledKeys) {
+                if (!compiled.matches(keys)) {
+                    return false;
+                }
+            }
+            return true;
+        }
 
         @Override
         public boolean test(@Nullable Level level, ItemStack stack) {
@@ -265,6 +312,11 @@ public class SearchQueryParser {
             return true;
         }
 
+        @Override
+        public boolean needsTooltips() {
+            return queryStrings.containsKey(QueryType.TOOLTIP);
+        }
+
         private boolean isEmpty() {
             return queryStrings.isEmpty();
         }
@@ -277,6 +329,18 @@ public class SearchQueryParser {
         public String toString() {
             return queryStrings.toString();
         }
+
+        private record CompiledKeys(QueryType type, String[] lowerKeys) {
+
+            private boolean matches(ItemSearchKeys keys) {
+                for (String lowerKey : lowerKeys) {
+                    if (type.matches(keys, lowerKey)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
     }
 
     public static class SearchQueryList implements ISearchQuery {
@@ -285,6 +349,23 @@ public class SearchQueryParser {
 
         private SearchQueryList(List<SearchQuery> queries) {
             this.queries = queries;
+            for (SearchQuery query : queries) {
+                query.compile();
+            }
+        }
+
+        @Override
+        public boolean test(ItemSearchKeys keys) {
+            // allow empty query lists to match all stacks
+            if (queries.isEmpty()) {
+                return true;
+            }
+            for (SearchQuery query : queries) {
+                if (query.test(keys)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Override
@@ -301,6 +382,16 @@ public class SearchQueryParser {
             return false;
         }
 
+        @Override
+        public boolean needsTooltips() {
+            for (SearchQuery query : queries) {
+                if (query.needsTooltips()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         @Override
         public String toString() {
             return queries.toString();
@@ -314,6 +405,21 @@ public class SearchQueryParser {
     @FunctionalInterface
     public interface ISearchQuery extends BiPredicate<@Nullable Level, ItemStack> {
 
+        /**
+         * Tests the query against the precomputed search keys of an item type. This is much faster than testing against the stack when the same types are searched
+         * repeatedly, as the keys of each type only have to be looked up once.
+         */
+        default boolean test(ItemSearchKeys keys) {
+            return test(keys.getLevel(), keys.getStack());
+        }
+
+        /**
+         * @return {@code true} if testing this query against {@link ItemSearchKeys} needs the tooltips of the items.
+         */
+        default boolean needsTooltips() {
+            return false;
+        }
+
         default boolean isInvalid() {
             return this == INVALID;
         }
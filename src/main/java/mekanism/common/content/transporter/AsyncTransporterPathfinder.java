@@ -0,0 +1,226 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import mekanism.api.text.EnumColor;
+import mekanism.common.Mekanism;
+import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.network.InventoryNetwork.AcceptorData;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.transporter.PathfinderCache.CachedPath;
+import mekanism.common.content.transporter.TransporterNetworkSnapshot.TransporterNode;
+import mekanism.common.content.transporter.TransporterPathfinder.Destination;
+import mekanism.common.lib.inventory.TransitRequest;
+import mekanism.common.util.TransporterUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Finds new paths for stacks that are already travelling through a network on a worker pool. Checking which acceptors can accept the stack still happens on the
+ * server thread, as does using any paths that are cached, but the searches themselves run against a {@link TransporterNetworkSnapshot}. The found path is then checked
+ * against the actual network and applied by the transporter the stack is in on a later tick.
+ */
+public class AsyncTransporterPathfinder {
+
+    private AsyncTransporterPathfinder() {
+    }
+
+    @Nullable
+    private static ExecutorService executor;
+
+    /**
+     * Starts finding a new path for the given stack.
+     *
+     * @param transporter Transporter the stack is currently in.
+     * @param stack       Stack to find a path for.
+     * @param from        Position the stack came from, to set as the original location if a path is found.
+     *
+     * @return The pending path, or {@code null} if the transporter is not part of a network.
+     */
+    @Nullable
+    public static PendingPath request(LogisticalTransporterBase transporter, TransporterStack stack, @Nullable BlockPos from) {
+        InventoryNetwork network = transporter.getTransmitterNetwork();
+        if (network == null) {
+            return null;
+        }
+        Level level = transporter.getLevel();
+        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        List<AcceptorData> acceptors = network.calculateAcceptors(TransitRequest.simple(stack.itemStack), stack, chunkMap, Collections.emptyMap());
+        List<Destination> cachedDestinations = new ArrayList<>();
+        List<SearchTarget> targets = new ArrayList<>();
+        for (AcceptorData data : acceptors) {
+            BlockPos dest = data.getLocation();
+            CachedPath cached = PathfinderCache.getCache(transporter, dest, data.getSides());
+            if (cached != null && TransporterPathfinder.checkPath(network, cached.path(), stack)) {
+                cachedDestinations.add(new Destination(cached, data.getResponse()));
+                continue;
+            }
+            //Check which sides we can insert into the destination from while we are still on the server thread
+            BlockEntity tile = WorldUtils.getTileEntity(level, chunkMap, dest);
+            byte validSides = 0;
+            for (Direction side : data.getSides()) {
+                if (TransporterUtils.canInsert(level, dest, tile, stack.color, data.getResponse().getStack(), side, false)) {
+                    validSides |= (byte) (1 << side.ordinal());
+                }
+            }
+            if (validSides != 0) {
+                targets.add(new SearchTarget(data, new SnapshotPathfinder(network.getSnapshot(), stack.color, dest.equals(stack.homeLocation), validSides, dest,
+                      transporter.getBlockPos())));
+            }
+        }
+        CompletableFuture<PathResult> result;
+        if (targets.isEmpty()) {
+            //Nothing to search for, everything was cached or there are no valid destinations
+            result = CompletableFuture.completedFuture(new PathResult(cachedDestinations, Collections.emptyList()));
+        } else {
+            result = CompletableFuture.supplyAsync(() -> search(cachedDestinations, targets), getExecutor());
+        }
+        return new PendingPath(result, transporter.getBlockPos(), network.getUUID(), network.getTopologyVersion(), from);
+    }
+
+    private static PathResult search(List<Destination> destinations, List<SearchTarget> targets) {
+        List<SearchTarget> found = new ArrayList<>(targets.size());
+        for (SearchTarget target : targets) {
+            if (target.pathfinder().find()) {
+                destinations.add(new Destination(target.pathfinder().getPath(), target.data().getResponse(), target.pathfinder().getFinalScore()));
+                found.add(target);
+            }
+        }
+        return new PathResult(destinations, found);
+    }
+
+    private static ExecutorService getExecutor() {
+        if (executor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), runnable -> {
+                Thread thread = new Thread(runnable, "Mekanism Pathfinder-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    public static void reset() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * A path that is being found for a stack.
+     *
+     * @param result         The result of the search.
+     * @param requester      Position of the transporter the stack was in when the search started, as the path starts from there.
+     * @param network        The network the path is being found in.
+     * @param networkVersion The topology version of the network at the time the search started.
+     * @param from           Position the stack came from.
+     */
+    public record PendingPath(CompletableFuture<PathResult> result, BlockPos requester, UUID network, int networkVersion, @Nullable BlockPos from) {
+
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        /**
+         * @return {@code true} if the given transporter is the one the search was started from and its network has not changed since.
+         */
+        public boolean isCurrent(LogisticalTransporterBase transporter) {
+            InventoryNetwork current = transporter.getTransmitterNetwork();
+            return current != null && requester.equals(transporter.getBlockPos()) && current.getUUID().equals(network) && current.getTopologyVersion() == networkVersion;
+        }
+
+        /**
+         * Gets the best destination that was found and caches any newly found paths if the network has not changed since the search started. Must be called on the
+         * server thread.
+         *
+         * @param transporter Transporter the stack is in.
+         *
+         * @return The best destination, or {@code null} if none were found or the network changed.
+         */
+        @Nullable
+        public Destination getBestDestination(LogisticalTransporterBase transporter) {
+            if (!isCurrent(transporter)) {
+                //The network changed or the stack moved, so the paths may no longer be valid
+                return null;
+            }
+            PathResult pathResult;
+            try {
+                pathResult = result.join();
+            } catch (RuntimeException e) {
+                Mekanism.logger.error("Failed to find transporter path asynchronously.", e);
+                return null;
+            }
+            for (SearchTarget target : pathResult.found()) {
+                PathfinderCache.addCachedPath(transporter, target.data().getLocation(), target.pathfinder());
+            }
+            List<Destination> destinations = pathResult.destinations();
+            if (destinations.isEmpty()) {
+                return null;
+            }
+            Collections.sort(destinations);
+            return destinations.getFirst();
+        }
+    }
+
+    private record PathResult(List<Destination> destinations, List<SearchTarget> found) {
+    }
+
+    private record SearchTarget(AcceptorData data, SnapshotPathfinder pathfinder) {
+    }
+
+    private static class SnapshotPathfinder extends TransporterAStar<TransporterNode> {
+
+        private final TransporterNetworkSnapshot snapshot;
+        @Nullable
+        private final EnumColor color;
+        private final boolean home;
+        private final byte validSides;
+
+        private SnapshotPathfinder(TransporterNetworkSnapshot snapshot, @Nullable EnumColor color, boolean home, byte validSides, BlockPos finalNode, BlockPos start) {
+            super(finalNode, start);
+            this.snapshot = snapshot;
+            this.color = color;
+            this.home = home;
+            this.validSides = validSides;
+        }
+
+        @Nullable
+        @Override
+        protected TransporterNode getNode(long pos) {
+            return snapshot.getTransporter(pos);
+        }
+
+        @Override
+        protected boolean canMoveTo(@Nullable TransporterNode to, Direction direction, @Nullable TransporterNode from) {
+            return TransporterNetworkSnapshot.canMoveTo(color, to, direction, from);
+        }
+
+        @Override
+        protected double getCost(TransporterNode node) {
+            return node.cost();
+        }
+
+        @Override
+        protected boolean isValidDestination(@Nullable TransporterNode from, Direction direction) {
+            if (from != null && (validSides & (1 << direction.ordinal())) != 0) {
+                return from.canEmitTo(direction) || (home && from.canConnect(direction));
+            }
+            return false;
+        }
+    }
+}
\ No newline at end of file
@@ -1,47 +1,146 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.HashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
-import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * Size bounded cache of the paths transporters have found to their destinations. Once full the least recently used paths are evicted. When a network changes only the
+ * paths that traverse the changed positions are invalidated, and all the paths of a network are dropped when the network is removed.
+ */
 public class PathfinderCache {
 
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    //Note: Access ordered, with the most recently used paths at the end
+    private static final Object2ObjectLinkedOpenHashMap<PathData, CachedPath> cachedPaths = new Object2ObjectLinkedOpenHashMap<>();
+    //Network -> position -> cached paths that pass through that position
+    private static final Map<UUID, Long2ObjectMap<Set<PathData>>> pathsByPosition = new Object2ObjectOpenHashMap<>();
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+    private static long invalidations;
 
+    /**
+     * Invalidates all cached paths for the given networks.
+     */
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+            Long2ObjectMap<Set<PathData>> networkPaths = pathsByPosition.remove(network.getUUID());
+            if (networkPaths != null) {
+                for (Set<PathData> paths : networkPaths.values()) {
+                    for (PathData data : paths) {
+                        if (cachedPaths.remove(data) != null) {
+                            invalidations++;
+                        }
+                    }
+                }
+            }
         }
     }
 
-    public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Pathfinder pathfinder) {
+    /**
+     * Invalidates the cached paths of the given network that pass through the given position.
+     */
+    public static void onChanged(@Nullable InventoryNetwork network, BlockPos pos) {
+        if (network != null) {
+            Long2ObjectMap<Set<PathData>> networkPaths = pathsByPosition.get(network.getUUID());
+            if (networkPaths != null) {
+                invalidate(networkPaths, pos.asLong());
+            }
+        }
+    }
+
+    /**
+     * Invalidates the cached paths of the given network that pass through any of the given positions.
+     *
+     * @param positions Positions in {@link BlockPos#asLong()} form.
+     */
+    public static void onChanged(InventoryNetwork network, LongCollection positions) {
+        Long2ObjectMap<Set<PathData>> networkPaths = pathsByPosition.get(network.getUUID());
+        if (networkPaths != null) {
+            for (LongIterator iterator = positions.iterator(); iterator.hasNext() && !networkPaths.isEmpty(); ) {
+                invalidate(networkPaths, iterator.nextLong());
+            }
+        }
+    }
+
+    private static void invalidate(Long2ObjectMap<Set<PathData>> networkPaths, long pos) {
+        Set<PathData> paths = networkPaths.get(pos);
+        if (paths != null) {
+            //Copy the paths as removing them updates the index we are iterating
+            for (PathData data : paths.toArray(PathData[]::new)) {
+                CachedPath removed = cachedPaths.remove(data);
+                if (removed != null) {
+                    removeFromIndex(data, removed);
+                    invalidations++;
+                }
+            }
+        }
+    }
+
+    public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, TransporterAStar<?> pathfinder) {
         CachedPath cachedPath = new CachedPath(pathfinder.getPath(), pathfinder.getFinalScore());
-        PathData data = new PathData(start.getBlockPos(), destination, pathfinder.getSide());
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new HashMap<>()).put(data, cachedPath);
+        int maxSize = MekanismConfig.general.transporterPathCacheSize.get();
+        if (maxSize > 0) {
+            PathData data = new PathData(start.getTransmitterNetwork().getUUID(), start.getBlockPos(), destination, pathfinder.getSide());
+            CachedPath previous = cachedPaths.putAndMoveToLast(data, cachedPath);
+            if (previous != null) {
+                removeFromIndex(data, previous);
+            }
+            Long2ObjectMap<Set<PathData>> networkPaths = pathsByPosition.computeIfAbsent(data.network(), uuid -> new Long2ObjectOpenHashMap<>());
+            for (BlockPos pos : cachedPath.path()) {
+                networkPaths.computeIfAbsent(pos.asLong(), p -> new ObjectOpenHashSet<>()).add(data);
+            }
+        }
+        //Evict the least recently used paths until we fit in the cache again. This also handles the max size having been lowered
+        while (cachedPaths.size() > maxSize) {
+            PathData eldest = cachedPaths.firstKey();
+            removeFromIndex(eldest, cachedPaths.removeFirst());
+            evictions++;
+        }
         return cachedPath;
     }
 
+    private static void removeFromIndex(PathData data, CachedPath path) {
+        Long2ObjectMap<Set<PathData>> networkPaths = pathsByPosition.get(data.network());
+        if (networkPaths != null) {
+            for (BlockPos pos : path.path()) {
+                long key = pos.asLong();
+                Set<PathData> paths = networkPaths.get(key);
+                if (paths != null && paths.remove(data) && paths.isEmpty()) {
+                    networkPaths.remove(key);
+                }
+            }
+            if (networkPaths.isEmpty()) {
+                pathsByPosition.remove(data.network());
+            }
+        }
+    }
+
     @Nullable
     public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
         UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-        if (pathMap != null) {
+        if (pathsByPosition.containsKey(uuid)) {
             BlockPos startPos = start.getBlockPos();
             for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(startPos, end, side));
+                CachedPath test = cachedPaths.getAndMoveToLast(new PathData(uuid, startPos, end, side));
                 if (test != null) {
                     if (ret == null || test.cost() < ret.cost()) {
                         ret = test;
@@ -49,16 +148,38 @@ public class PathfinderCache {
                 }
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+        }
         return ret;
     }
 
+    public static PathCacheStats getStats() {
+        return new PathCacheStats(cachedPaths.size(), MekanismConfig.general.transporterPathCacheSize.get(), hits, misses, evictions, invalidations);
+    }
+
     public static void reset() {
         cachedPaths.clear();
+        pathsByPosition.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        invalidations = 0;
     }
 
     public record CachedPath(List<BlockPos> path, double cost) {
     }
 
-    private record PathData(BlockPos startTransporter, BlockPos end, Direction endSide) {
+    public record PathCacheStats(int size, int capacity, long hits, long misses, long evictions, long invalidations) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : hits / (double) lookups;
+        }
+    }
+
+    private record PathData(UUID network, BlockPos startTransporter, BlockPos end, Direction endSide) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package mekanism.common.content.transporter;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of {@link net.minecraft.core.BlockPos#asLong() packed} positions ordered by their score. Positions are pushed again when their score improves, with
+ * the stale entries being skipped by the caller when they are polled.
+ */
+final class PositionHeap {
+
+    private static final int INITIAL_SIZE = 16;
+
+    private long[] nodes = new long[INITIAL_SIZE];
+    private double[] scores = new double[INITIAL_SIZE];
+    private int size;
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The score of the position that will be polled next.
+     */
+    public double peekScore() {
+        return scores[0];
+    }
+
+    public void push(long node, double score) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            scores = Arrays.copyOf(scores, size * 2);
+        }
+        //Sift up
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= score) {
+                break;
+            }
+            nodes[index] = nodes[parent];
+            scores[index] = scores[parent];
+            index = parent;
+        }
+        nodes[index] = node;
+        scores[index] = score;
+    }
+
+    public long poll() {
+        long result = nodes[0];
+        int last = --size;
+        if (last > 0) {
+            //Move the last entry to the top and sift it down
+            long node = nodes[last];
+            double score = scores[last];
+            int index = 0;
+            int half = last >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                int right = child + 1;
+                if (right < last && scores[right] < scores[child]) {
+                    child = right;
+                }
+                if (score <= scores[child]) {
+                    break;
+                }
+                nodes[index] = nodes[child];
+                scores[index] = scores[child];
+                index = child;
+            }
+            nodes[index] = node;
+            scores[index] = score;
+        }
+        return result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+package mekanism.common.content.transporter;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import java.util.List;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A* search between transporters, working on {@link BlockPos#asLong() packed} positions and using a binary heap for the open set. Looking up what is at a position,
+ * whether the stack can move between two nodes, and whether it can be inserted into the destination are left to implementations, so that the search itself does not
+ * depend on the world.
+ *
+ * @param <NODE> The type of node that is at each position, for example the transporter.
+ */
+public abstract class TransporterAStar<NODE> {
+
+    private final LongOpenHashSet openSet = new LongOpenHashSet();
+    private final Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
+    private final Long2LongOpenHashMap navMap = new Long2LongOpenHashMap();
+    /**
+     * Open nodes ordered by their fScore.
+     */
+    private final PositionHeap heap = new PositionHeap();
+    protected final long start;
+    protected final long finalNode;
+    private final LongList results = new LongArrayList();
+    private double finalScore;
+    @Nullable
+    private Direction side;
+
+    protected TransporterAStar(BlockPos finalNode, BlockPos start) {
+        this.finalNode = finalNode.asLong();
+        this.start = start.asLong();
+    }
+
+    /**
+     * @param pos Packed position.
+     *
+     * @return The node at the given position, or {@code null} if there is nothing there.
+     */
+    @Nullable
+    protected abstract NODE getNode(long pos);
+
+    /**
+     * @param to        Node being moved into.
+     * @param direction Direction the stack is moving in.
+     * @param from      Node being moved out of.
+     *
+     * @return {@code true} if the stack can move from one node into the other.
+     */
+    protected abstract boolean canMoveTo(@Nullable NODE to, Direction direction, @Nullable NODE from);
+
+    /**
+     * @return Cost of moving through the given node.
+     */
+    protected abstract double getCost(NODE node);
+
+    /**
+     * Checks if the stack can be inserted into the destination from the given node. Only called when the destination is adjacent to the node.
+     *
+     * @param from      Node the stack is being inserted from.
+     * @param direction Direction from the node to the destination.
+     */
+    protected abstract boolean isValidDestination(@Nullable NODE from, Direction direction);
+
+    public boolean find() {
+        openSet.add(start);
+        gScore.put(start, 0D);
+        //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
+        double totalDistance = distanceBetween(start, finalNode);
+        heap.push(start, totalDistance);
+        boolean hasValidDirection = false;
+        NODE startNode = getNode(start);
+        for (Direction direction : EnumUtils.DIRECTIONS) {
+            long neighbor = BlockPos.offset(start, direction);
+            if (canMoveTo(getNode(neighbor), direction, startNode)) {
+                //If we can insert into the transporter, mark that we have a valid path we can take
+                hasValidDirection = true;
+                break;
+            } else if (checkDestination(start, startNode, direction, neighbor)) {
+                //Otherwise, if we are neighboring our destination, and we can emit to the location, or it is going back
+                // to its home location and can connect to it just exit early and return that this is the best path
+                return true;
+            }
+        }
+        if (!hasValidDirection) {
+            //If there is no valid direction that the stack can go just exit
+            return false;
+        }
+        //If the blocks are very close together, allow for path finding up to four blocks away
+        double maxSearchDistance = Math.max(2 * totalDistance, 4);
+        while (!heap.isEmpty()) {
+            long currentNode = heap.poll();
+            //Remove the current node from unchecked, if it was already removed then this is a stale entry for a node we found a better score for
+            if (!openSet.remove(currentNode)) {
+                continue;
+            }
+            if (distanceBetween(start, currentNode) > maxSearchDistance) {
+                //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
+                // Even if it currently has a bit higher of a score
+                continue;
+            }
+            NODE currentNodeTransmitter = getNode(currentNode);
+            double currentScore = gScore.get(currentNode);
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                long neighbor = BlockPos.offset(currentNode, direction);
+                NODE neighborTransmitter = getNode(neighbor);
+                if (canMoveTo(neighborTransmitter, direction, currentNodeTransmitter)) {
+                    //If the neighbor is a transporter and the stack is valid for it
+                    double tentativeG = currentScore + getCost(neighborTransmitter);
+                    //Note: Nodes we have already checked, or that are waiting to be checked, only need to be updated if we found a cheaper way to them
+                    if (!gScore.containsKey(neighbor) || tentativeG < gScore.get(neighbor)) {
+                        navMap.put(neighbor, currentNode);
+                        gScore.put(neighbor, tentativeG);
+                        //Put the gScore plus estimate in the final score
+                        heap.push(neighbor, tentativeG + distanceBetween(neighbor, finalNode));
+                        openSet.add(neighbor);
+                    }
+                } else if (checkDestination(currentNode, currentNodeTransmitter, direction, neighbor)) {
+                    //Else if the neighbor is the destination, and we can send to it
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if we have a valid connection to the destination and are able to emit to it. If we are this updates the side and results to the proper values.
+     *
+     * @return True if we found a valid connection to the destination and can insert into it, false otherwise
+     */
+    private boolean checkDestination(long from, @Nullable NODE fromNode, Direction direction, long neighbor) {
+        if (neighbor == finalNode && isValidDestination(fromNode, direction)) {
+            side = direction;
+            reconstructPath(from);
+            finalScore = gScore.get(from) + distanceBetween(from, finalNode);
+            return true;
+        }
+        return false;
+    }
+
+    private void reconstructPath(long nextNode) {
+        results.clear();
+        results.add(nextNode);
+        while (navMap.containsKey(nextNode)) {
+            nextNode = navMap.get(nextNode);
+            results.add(nextNode);
+        }
+    }
+
+    public boolean hasPath() {
+        return !results.isEmpty();
+    }
+
+    /**
+     * @return The path starting at the destination and ending at the start.
+     */
+    public List<BlockPos> getPath() {
+        ImmutableList.Builder<BlockPos> path = ImmutableList.builderWithExpectedSize(results.size() + 1);
+        path.add(BlockPos.of(finalNode));
+        for (int i = 0, size = results.size(); i < size; i++) {
+            path.add(BlockPos.of(results.getLong(i)));
+        }
+        return path.build();
+    }
+
+    public double getFinalScore() {
+        return finalScore;
+    }
+
+    public Direction getSide() {
+        return side;
+    }
+
+    private static double distanceBetween(long start, long end) {
+        double x = BlockPos.getX(start) - BlockPos.getX(end);
+        double y = BlockPos.getY(start) - BlockPos.getY(end);
+        double z = BlockPos.getZ(start) - BlockPos.getZ(end);
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.Collection;
+import mekanism.api.text.EnumColor;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable copy of the parts of an inventory network's topology that are needed for finding paths, so that paths can be searched for off the server thread.
+ *
+ * @implNote Whether a transporter can connect on a side may depend on redstone, so any paths found using a snapshot must be checked against the actual transporters
+ * before being used.
+ */
+public final class TransporterNetworkSnapshot {
+
+    private final Long2ObjectMap<TransporterNode> transporters;
+
+    public TransporterNetworkSnapshot(Collection<LogisticalTransporterBase> transporters) {
+        this.transporters = new Long2ObjectOpenHashMap<>(transporters.size());
+        for (LogisticalTransporterBase transporter : transporters) {
+            byte connectable = 0;
+            byte emittable = 0;
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                int bit = 1 << side.ordinal();
+                if (transporter.canConnect(side)) {
+                    connectable |= (byte) bit;
+                    if (transporter.canEmitTo(side)) {
+                        emittable |= (byte) bit;
+                    }
+                }
+            }
+            this.transporters.put(transporter.getBlockPos().asLong(), new TransporterNode(transporter.getColor(), transporter.getCost(), connectable, emittable));
+        }
+    }
+
+    @Nullable
+    public TransporterNode getTransporter(long pos) {
+        return transporters.get(pos);
+    }
+
+    /**
+     * @param color     Color of the stack being moved.
+     * @param to        Transporter being moved into.
+     * @param direction Direction the stack is moving in.
+     * @param from      Transporter being moved out of.
+     *
+     * @see TransporterStack#canInsertToTransporter(LogisticalTransporterBase, Direction, LogisticalTransporterBase)
+     */
+    public static boolean canMoveTo(@Nullable EnumColor color, @Nullable TransporterNode to, Direction direction, @Nullable TransporterNode from) {
+        if (to == null || (to.color() != null && to.color() != color)) {
+            return false;
+        }
+        return to.canConnect(direction.getOpposite()) && (from == null || from.canConnect(direction));
+    }
+
+    /**
+     * @param connectableSides Bitmask of the sides the transporter could connect on when the snapshot was taken.
+     * @param emittableSides   Bitmask of the sides the transporter could emit to when the snapshot was taken.
+     */
+    public record TransporterNode(@Nullable EnumColor color, double cost, byte connectableSides, byte emittableSides) {
+
+        public boolean canConnect(Direction side) {
+            return (connectableSides & (1 << side.ordinal())) != 0;
+        }
+
+        public boolean canEmitTo(Direction side) {
+            return (emittableSides & (1 << side.ordinal())) != 0;
+        }
+    }
+}
\ No newline at end of file
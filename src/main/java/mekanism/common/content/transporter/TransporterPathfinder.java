@@ -1,11 +1,8 @@
 package mekanism.common.content.transporter;
 
-import com.google.common.collect.ImmutableList;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -13,10 +10,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import mekanism.api.text.EnumColor;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
+import mekanism.common.content.transporter.TransporterRoutingTable.Routes;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
@@ -60,7 +59,7 @@ public final class TransporterPathfinder {
         return paths;
     }
 
-    private static boolean checkPath(InventoryNetwork network, List<BlockPos> path, TransporterStack stack) {
+    static boolean checkPath(InventoryNetwork network, List<BlockPos> path, TransporterStack stack) {
         for (int i = path.size() - 1; i > 0; i--) {
             LogisticalTransporterBase transmitter = network.getTransmitter(path.get(i));
             if (transmitter == null) {
@@ -74,26 +73,117 @@ public final class TransporterPathfinder {
         return true;
     }
 
+    /**
+     * Checks that the stack can move along the entire path and be inserted into the destination at the end of it. Used for checking paths that were found against a
+     * {@link TransporterNetworkSnapshot} which may be out of date.
+     */
+    public static boolean canFollowPath(InventoryNetwork network, List<BlockPos> path, TransporterStack stack) {
+        if (path.size() < 2 || !canTraverse(network, path, stack)) {
+            return false;
+        }
+        BlockPos dest = path.getFirst();
+        BlockPos previousPos = path.get(1);
+        LogisticalTransporterBase previous = network.getTransmitter(previousPos);
+        Direction side = WorldUtils.sideDifference(dest, previousPos);
+        if (side == null || !previous.canEmitTo(side) && (!dest.equals(stack.homeLocation) || !previous.canConnect(side))) {
+            return false;
+        }
+        return TransporterUtils.canInsert(previous.getLevel(), dest, stack.color, stack.itemStack, side, false);
+    }
+
+    /**
+     * Checks that the stack can move between each of the transporters along the path, ignoring the destination at the start of it.
+     */
+    private static boolean canTraverse(InventoryNetwork network, List<BlockPos> path, TransporterStack stack) {
+        LogisticalTransporterBase previous = null;
+        BlockPos previousPos = null;
+        for (int i = path.size() - 1; i > 0; i--) {
+            BlockPos pos = path.get(i);
+            LogisticalTransporterBase transmitter = network.getTransmitter(pos);
+            if (transmitter == null) {
+                return false;
+            } else if (previous != null) {
+                Direction side = WorldUtils.sideDifference(pos, previousPos);
+                if (side == null || !stack.canInsertToTransporterNN(transmitter, side, previous)) {
+                    return false;
+                }
+            }
+            previous = transmitter;
+            previousPos = pos;
+        }
+        return true;
+    }
+
     @Nullable
     private static Destination getPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min,
           Long2ObjectMap<ChunkAccess> chunkMap) {
         TransitResponse response = data.getResponse();
         if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(network, test.path(), stack)) {
-                return new Destination(test, response);
-            }
-            Pathfinder p = new Pathfinder(network, start.getLevel(), dest, start.getBlockPos(), stack, response.getStack(),
-                  (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false));
-            p.find(chunkMap);
-            if (p.hasPath()) {
-                return new Destination(PathfinderCache.addCachedPath(start, dest, p), response);
+            if (MekanismConfig.general.transporterRoutingTables.get()) {
+                return getRoutedPath(network, data, start, stack, response, chunkMap);
             }
+            return searchPath(network, data, start, stack, response, chunkMap);
         }
         return null;
     }
 
+    @Nullable
+    private static Destination searchPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, TransitResponse response,
+          Long2ObjectMap<ChunkAccess> chunkMap) {
+        BlockPos dest = data.getLocation();
+        CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
+        if (test != null && checkPath(network, test.path(), stack)) {
+            return new Destination(test, response);
+        }
+        Pathfinder p = new Pathfinder(network, start.getLevel(), dest, start.getBlockPos(), stack, response.getStack(),
+              (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false));
+        p.find(chunkMap);
+        if (p.hasPath()) {
+            return new Destination(PathfinderCache.addCachedPath(start, dest, p), response);
+        }
+        return null;
+    }
+
+    /**
+     * Looks up the cheapest path to the given destination in the network's routing table. The routes are discarded whenever the network changes somewhere they reach,
+     * so if none of the transporters next to the destination can be reached according to them, there is no path, and we don't bother searching for one.
+     */
+    @Nullable
+    private static Destination getRoutedPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack,
+          TransitResponse response, Long2ObjectMap<ChunkAccess> chunkMap) {
+        BlockPos dest = data.getLocation();
+        Routes routes = network.getRoutingTable().getRoutes(network, start.getBlockPos(), stack.color);
+        Level level = start.getLevel();
+        BlockEntity tile = WorldUtils.getTileEntity(level, chunkMap, dest);
+        long destination = dest.asLong();
+        long bestTransporter = 0;
+        double bestCost = Double.POSITIVE_INFINITY;
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            long transporter = BlockPos.offset(destination, side.getOpposite());
+            double cost = routes.getCost(transporter);
+            //Note: NaN (unreachable) fails this check as well
+            if (cost < bestCost) {
+                LogisticalTransporterBase lastTransporter = network.getTransmitter(BlockPos.of(transporter));
+                if (lastTransporter != null && lastTransporter.canEmitTo(side) && TransporterUtils.canInsert(level, dest, tile, stack.color, response.getStack(), side, false)) {
+                    bestTransporter = transporter;
+                    bestCost = cost;
+                }
+            }
+        }
+        if (bestCost == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        List<BlockPos> path = routes.getPath(dest, bestTransporter);
+        if (!canTraverse(network, path, stack)) {
+            //Something changed that the snapshot the routes were calculated from doesn't know about, such as the redstone state of a diversion transporter,
+            // so discard the routes and search for a path instead
+            network.markTopologyChanged();
+            return searchPath(network, data, start, stack, response, chunkMap);
+        }
+        //Note: The final step into the destination has a cost of one, matching the distance estimate used when searching
+        return new Destination(path, response, bestCost + 1);
+    }
+
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
         return getNewBasePath(start, stack, request, min, Collections.emptyMap());
@@ -356,163 +446,61 @@ public final class TransporterPathfinder {
         }
     }
 
-    public static class Pathfinder {
+    public static class Pathfinder extends TransporterAStar<LogisticalTransporterBase> {
 
-        private final Set<BlockPos> openSet = new ObjectOpenHashSet<>();
-        private final Set<BlockPos> closedSet = new ObjectOpenHashSet<>();
-        private final Map<BlockPos, BlockPos> navMap = new Object2ObjectOpenHashMap<>();
-        private final Object2DoubleOpenHashMap<BlockPos> gScore = new Object2DoubleOpenHashMap<>();
-        private final Object2DoubleOpenHashMap<BlockPos> fScore = new Object2DoubleOpenHashMap<>();
+        private final BlockPos.MutableBlockPos lookupPos = new BlockPos.MutableBlockPos();
         private final InventoryNetwork network;
-        private final BlockPos start;
-        private final BlockPos finalNode;
+        private final BlockPos finalPos;
         private final TransporterStack transportStack;
         private final ItemStack data;
         private final DestChecker destChecker;
         private final Level world;
-        private double finalScore;
-        private Direction side;
-        private List<BlockPos> results = new ArrayList<>();
+        private Long2ObjectMap<ChunkAccess> chunkMap = Long2ObjectMaps.emptyMap();
 
         public Pathfinder(InventoryNetwork network, Level world, BlockPos finalNode, BlockPos start, TransporterStack stack, ItemStack data, DestChecker checker) {
+            super(finalNode, start);
             destChecker = checker;
             this.network = network;
             this.world = world;
-            this.finalNode = finalNode;
-            this.start = start;
+            this.finalPos = finalNode;
             transportStack = stack;
             this.data = data;
         }
 
         public boolean find(Long2ObjectMap<ChunkAccess> chunkMap) {
-            openSet.add(start);
-            gScore.put(start, 0D);
-            //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
-            double totalDistance = WorldUtils.distanceBetween(start, finalNode);
-            fScore.put(start, totalDistance);
-            boolean hasValidDirection = false;
-            LogisticalTransporterBase startTransmitter = network.getTransmitter(start);
-            BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
-            for (Direction direction : EnumUtils.DIRECTIONS) {
-                neighbor.setWithOffset(start, direction);
-                LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
-                if (transportStack.canInsertToTransporter(neighborTransmitter, direction, startTransmitter)) {
-                    //If we can insert into the transporter, mark that we have a valid path we can take
-                    hasValidDirection = true;
-                    break;
-                } else if (isValidDestination(start, startTransmitter, direction, neighbor, chunkMap)) {
-                    //Otherwise, if we are neighboring our destination, and we can emit to the location, or it is going back
-                    // to its home location and can connect to it just exit early and return that this is the best path
-                    return true;
-                }
-            }
-            if (!hasValidDirection) {
-                //If there is no valid direction that the stack can go just exit
-                return false;
-            }
-            //If the blocks are very close together, allow for path finding up to four blocks away
-            double maxSearchDistance = Math.max(2 * totalDistance, 4);
-            while (!openSet.isEmpty()) {
-                BlockPos currentNode = null;
-                double lowestFScore = 0;
-                for (BlockPos node : openSet) {
-                    if (currentNode == null || fScore.getDouble(node) < lowestFScore) {
-                        currentNode = node;
-                        lowestFScore = fScore.getDouble(node);
-                    }
-                }
-                if (currentNode == null) {
-                    //If we have no current node, then exit
-                    break;
-                }
-                //Remove the current node from unchecked and add it to checked
-                openSet.remove(currentNode);
-                closedSet.add(currentNode);
-                if (WorldUtils.distanceBetween(start, currentNode) > maxSearchDistance) {
-                    //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
-                    // Even if it currently has a bit higher of a score
-                    continue;
-                }
-                LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentNode);
-                double currentScore = gScore.getDouble(currentNode);
-                for (Direction direction : EnumUtils.DIRECTIONS) {
-                    neighbor.setWithOffset(currentNode, direction);
-                    LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
-                    if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
-                        //If the neighbor is a transporter and the stack is valid for it
-                        double tentativeG = currentScore + neighborTransmitter.getCost();
-                        if (closedSet.contains(neighbor) && tentativeG >= gScore.getDouble(neighbor)) {
-                            continue;
-                        }
-                        if (!openSet.contains(neighbor) || tentativeG < gScore.getDouble(neighbor)) {
-                            BlockPos immutableNeighbor = neighbor.immutable();
-                            navMap.put(immutableNeighbor, currentNode);
-                            gScore.put(immutableNeighbor, tentativeG);
-                            //Put the gScore plus estimate in the final score
-                            fScore.put(immutableNeighbor, tentativeG + WorldUtils.distanceBetween(immutableNeighbor, finalNode));
-                            openSet.add(immutableNeighbor);
-                        }
-                    } else if (isValidDestination(currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
-                        //Else if the neighbor is the destination, and we can send to it
-                        return true;
-                    }
-                }
-            }
-            return false;
-        }
-
-        /**
-         * Checks if we have a valid connection to the destination and are able to emit to it. If we are this updates the side and results to the proper values.
-         *
-         * @return True if we found a valid connection to the destination and can insert into it, false otherwise
-         */
-        private boolean isValidDestination(BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, BlockPos neighbor,
-              Long2ObjectMap<ChunkAccess> chunkMap) {
-            //Check to make sure that it is the destination
-            if (startTransporter != null && neighbor.equals(finalNode)) {
-                BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
-                if (destChecker.isValid(world, neighbor, neighborTile, transportStack, data, direction)) {
-                    if (startTransporter.canEmitTo(direction) || (finalNode.equals(transportStack.homeLocation) && startTransporter.canConnect(direction))) {
-                        //If it is, and we can emit to it (normal or push mode),
-                        // or it is the home location of the stack (it is returning due to not having been able to get to its destination) and
-                        // we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
-                        // then this is the proper path, so we mark it as so and return true indicating that we found and marked the ideal path
-                        side = direction;
-                        results = reconstructPath(navMap, start);
-                        finalScore = gScore.getDouble(start) + WorldUtils.distanceBetween(start, finalNode);
-                        return true;
-                    }
-                }
-            }
-            return false;
-        }
-
-        private List<BlockPos> reconstructPath(Map<BlockPos, BlockPos> navMap, BlockPos nextNode) {
-            List<BlockPos> path = new ArrayList<>();
-            while (nextNode != null) {
-                path.add(nextNode);
-                nextNode = navMap.get(nextNode);
-            }
-            return path;
+            this.chunkMap = chunkMap;
+            return find();
         }
 
-        public boolean hasPath() {
-            return !results.isEmpty();
+        @Nullable
+        @Override
+        protected LogisticalTransporterBase getNode(long pos) {
+            return network.getTransmitter(lookupPos.set(pos));
         }
 
-        public List<BlockPos> getPath() {
-            ImmutableList.Builder<BlockPos> path = ImmutableList.builder();
-            path.add(finalNode);
-            path.addAll(results);
-            return path.build();
+        @Override
+        protected boolean canMoveTo(@Nullable LogisticalTransporterBase to, Direction direction, @Nullable LogisticalTransporterBase from) {
+            return transportStack.canInsertToTransporter(to, direction, from);
         }
 
-        public double getFinalScore() {
-            return finalScore;
+        @Override
+        protected double getCost(LogisticalTransporterBase node) {
+            return node.getCost();
         }
 
-        public Direction getSide() {
-            return side;
+        @Override
+        protected boolean isValidDestination(@Nullable LogisticalTransporterBase startTransporter, Direction direction) {
+            if (startTransporter != null) {
+                BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, finalPos);
+                if (destChecker.isValid(world, finalPos, neighborTile, transportStack, data, direction)) {
+                    //If it is, and we can emit to it (normal or push mode),
+                    // or it is the home location of the stack (it is returning due to not having been able to get to its destination) and
+                    // we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
+                    // then this is the proper path
+                    return startTransporter.canEmitTo(direction) || (finalPos.equals(transportStack.homeLocation) && startTransporter.canConnect(direction));
+                }
+            }
+            return false;
         }
 
         @FunctionalInterface
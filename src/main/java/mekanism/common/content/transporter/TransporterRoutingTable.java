@@ -0,0 +1,168 @@
+package mekanism.common.content.transporter;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import java.util.List;
+import mekanism.api.text.EnumColor;
+import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.transporter.TransporterNetworkSnapshot.TransporterNode;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shortest paths from the points items enter an inventory network to every transporter they can reach, so that finding a path to a destination is a lookup instead
+ * of a search. Routes are calculated the first time items of a given color enter the network at a given transporter, and are only discarded when the network changes
+ * somewhere they reach.
+ *
+ * @implNote Routes are calculated against the network's {@link TransporterNetworkSnapshot}, so the paths they give must still be checked against the actual
+ * transporters before being used.
+ */
+public class TransporterRoutingTable {
+
+    /**
+     * Maximum number of transporters to keep routes to across all the sources in a single network, the least recently used sources are discarded first. This bounds
+     * the memory used by large networks, while still letting small networks keep routes for many sources.
+     */
+    private static final int MAX_ENTRIES = 1 << 17;
+
+    //Note: Access ordered, with the most recently used routes at the end
+    private final Object2ObjectLinkedOpenHashMap<RouteSource, Routes> routes = new Object2ObjectLinkedOpenHashMap<>();
+    private int entries;
+
+    /**
+     * Gets the routes for items of the given color entering the network at the given transporter, calculating them if necessary.
+     */
+    public Routes getRoutes(InventoryNetwork network, BlockPos start, @Nullable EnumColor color) {
+        RouteSource source = new RouteSource(start.asLong(), color);
+        Routes sourceRoutes = routes.getAndMoveToLast(source);
+        if (sourceRoutes == null) {
+            sourceRoutes = new Routes(network.getSnapshot(), source);
+            routes.putAndMoveToLast(source, sourceRoutes);
+            entries += sourceRoutes.size();
+            //Note: We always keep the routes we just calculated, even if they are larger than the limit on their own
+            while (entries > MAX_ENTRIES && routes.size() > 1) {
+                entries -= routes.removeFirst().size();
+            }
+        }
+        return sourceRoutes;
+    }
+
+    /**
+     * Discards the routes that reach or are next to any of the given positions.
+     *
+     * @param positions Positions in {@link BlockPos#asLong()} form.
+     */
+    public void onChanged(LongCollection positions) {
+        if (!routes.isEmpty()) {
+            routes.values().removeIf(sourceRoutes -> {
+                if (sourceRoutes.isAffectedBy(positions)) {
+                    entries -= sourceRoutes.size();
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    public void clear() {
+        routes.clear();
+        entries = 0;
+    }
+
+    private record RouteSource(long start, @Nullable EnumColor color) {
+    }
+
+    public static class Routes {
+
+        private final long start;
+        //Transporter -> cost of the cheapest path to it
+        private final Long2DoubleOpenHashMap costs = new Long2DoubleOpenHashMap();
+        //Transporter -> previous transporter on the cheapest path to it
+        private final Long2LongOpenHashMap previous = new Long2LongOpenHashMap();
+
+        private Routes(TransporterNetworkSnapshot snapshot, RouteSource source) {
+            this.start = source.start();
+            costs.defaultReturnValue(Double.NaN);
+            //Dijkstra's algorithm over the transporters
+            PositionHeap heap = new PositionHeap();
+            costs.put(start, 0);
+            heap.push(start, 0);
+            while (!heap.isEmpty()) {
+                double cost = heap.peekScore();
+                long current = heap.poll();
+                if (cost > costs.get(current)) {
+                    //Stale entry for a transporter we found a cheaper path to
+                    continue;
+                }
+                TransporterNode currentNode = snapshot.getTransporter(current);
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    long neighbor = BlockPos.offset(current, direction);
+                    TransporterNode neighborNode = snapshot.getTransporter(neighbor);
+                    if (TransporterNetworkSnapshot.canMoveTo(source.color(), neighborNode, direction, currentNode)) {
+                        double tentative = cost + neighborNode.cost();
+                        double known = costs.get(neighbor);
+                        if (Double.isNaN(known) || tentative < known) {
+                            costs.put(neighbor, tentative);
+                            previous.put(neighbor, current);
+                            heap.push(neighbor, tentative);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return The number of transporters these routes reach.
+         */
+        private int size() {
+            return costs.size();
+        }
+
+        /**
+         * @param transporter Packed position of the transporter.
+         *
+         * @return Cost of the cheapest path to the given transporter, or {@link Double#NaN} if it can't be reached.
+         */
+        public double getCost(long transporter) {
+            return costs.get(transporter);
+        }
+
+        /**
+         * @param destination Position of the destination.
+         * @param transporter Packed position of the reachable transporter that is next to the destination.
+         *
+         * @return The path starting at the destination and ending at the start.
+         */
+        public List<BlockPos> getPath(BlockPos destination, long transporter) {
+            ImmutableList.Builder<BlockPos> path = ImmutableList.builder();
+            path.add(destination);
+            path.add(BlockPos.of(transporter));
+            while (transporter != start) {
+                transporter = previous.get(transporter);
+                path.add(BlockPos.of(transporter));
+            }
+            return path.build();
+        }
+
+        private boolean isAffectedBy(LongCollection positions) {
+            for (LongIterator iterator = positions.iterator(); iterator.hasNext(); ) {
+                long pos = iterator.nextLong();
+                if (costs.containsKey(pos)) {
+                    return true;
+                }
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    if (costs.containsKey(BlockPos.offset(pos, direction))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
\ No newline at end of file
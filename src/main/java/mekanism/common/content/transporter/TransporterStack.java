@@ -11,6 +11,7 @@ import java.util.function.IntFunction;
 import mekanism.api.SerializationConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.transporter.AsyncTransporterPathfinder.PendingPath;
 import mekanism.common.content.transporter.TransporterPathfinder.Destination;
 import mekanism.common.content.transporter.TransporterPathfinder.IdlePathData;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
@@ -71,6 +72,11 @@ public class TransporterStack {
     public Direction idleDir = null;
     public BlockPos originalLocation;
     public BlockPos homeLocation;
+    /**
+     * Path that is being found for this stack off the server thread. The stack waits where it is until this is applied.
+     */
+    @Nullable
+    public PendingPath pendingPath;
     @Nullable
     private BlockPos clientNext;
     private BlockPos clientPrev;
@@ -204,6 +210,15 @@ public class TransporterStack {
         return newPath.getResponse();
     }
 
+    /**
+     * Sets the path of this stack to a destination that was found off the server thread.
+     */
+    public void setDestination(LogisticalTransporterBase transporter, Destination destination) {
+        idleDir = null;
+        setPath(transporter.getLevel(), destination.getPath(), Path.DEST, true);
+        initiatedPath = true;
+    }
+
     public <BE extends BlockEntity & IAdvancedTransportEjector> TransitResponse recalculateRRPath(TransitRequest request, BE outputter, LogisticalTransporterBase transporter, int min) {
         return recalculateRRPath(request, outputter, transporter, min, true);
     }
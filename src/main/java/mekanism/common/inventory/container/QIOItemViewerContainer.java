@@ -2,11 +2,9 @@ package mekanism.common.inventory.container;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -21,8 +19,7 @@ import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOCraftingTransferHelper;
 import mekanism.common.content.qio.QIOCraftingWindow;
 import mekanism.common.content.qio.QIOFrequency;
-import mekanism.common.content.qio.SearchQueryParser;
-import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.content.qio.QIOItemViewerList;
 import mekanism.common.inventory.GuiComponents.IDropdownEnum;
 import mekanism.common.inventory.GuiComponents.IToggleEnum;
 import mekanism.common.inventory.ISlotClickHandler;
@@ -31,7 +28,6 @@ import mekanism.common.inventory.container.slot.InsertableSlot;
 import mekanism.common.inventory.container.slot.InventoryContainerSlot;
 import mekanism.common.inventory.container.slot.VirtualCraftingOutputSlot;
 import mekanism.common.inventory.container.slot.VirtualInventoryContainerSlot;
-import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_server.qio.PacketQIOItemViewerSlotPlace;
@@ -76,11 +72,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private long totalItems;
 
     @Nullable
-    private List<IScrollableSlot> itemList;
-    @Nullable
-    private List<IScrollableSlot> searchList;
-
-    private Map<String, List<IScrollableSlot>> searchCache = new Object2ObjectOpenHashMap<>();
+    private QIOItemViewerList itemList;
     private String searchQuery = "";
 
     private int doubleClickTransferTicks = 0;
@@ -137,8 +129,6 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
         container.itemList = itemList;
-        container.searchList = searchList;
-        container.searchCache = searchCache;
         container.searchQuery = searchQuery;
         container.selectedWindow = getSelectedWindow();
     }
@@ -343,7 +333,14 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         cachedInventory = itemMap;
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
-        syncItemList();
+        updateTotalItems();
+        if (itemList == null) {
+            itemList = new QIOItemViewerList(getLevel(), sortType, sortDirection);
+            if (!searchQuery.isEmpty()) {
+                itemList.setSearch(searchQuery);
+            }
+        }
+        itemList.setItems(itemMap);
     }
 
     public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
@@ -362,45 +359,41 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
                 cachedInventory.put(entry.getKey(), value);
             }
         }
-        syncItemList();
+        updateTotalItems();
+        if (itemList != null) {
+            itemList.updateItems(itemMap);
+        }
+    }
+
+    /**
+     * @apiNote Only used on the client
+     */
+    public void tickItemList() {
+        if (itemList != null) {
+            itemList.tick();
+        }
     }
 
     public void handleKill() {
         itemList = null;
-        searchList = null;
         cachedInventory.clear();
+        totalItems = 0;
     }
 
     public QIOCraftingTransferHelper getTransferHelper(Player player, QIOCraftingWindow craftingWindow) {
         return new QIOCraftingTransferHelper(cachedInventory, hotBarSlots, mainInventorySlots, craftingWindow, player);
     }
 
-    private void syncItemList() {
-        if (itemList == null) {
-            itemList = new ArrayList<>();
-        }
-        itemList.clear();
-        searchCache.clear();
+    private void updateTotalItems() {
         totalItems = 0;
-        //Note: While when only updating some items it would be better in terms of memory churn to just update
-        // the entries in the itemList that changed instead of creating a new ItemSlotData for each one that is the same,
-        // this greatly increases the time complexity of doing so due to having to find the matching entry in the itemList
-        // so is not worth doing so
         for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : cachedInventory.object2LongEntrySet()) {
-            UUIDAwareHashedItem key = entry.getKey();
-            long value = entry.getLongValue();
-            itemList.add(new ItemSlotData(key, key.getUUID(), value));
-            totalItems += value;
-        }
-        sortItemList();
-        if (!searchQuery.isEmpty()) {
-            updateSearch(getLevel(), searchQuery);
+            totalItems += entry.getLongValue();
         }
     }
 
     private void sortItemList() {
         if (itemList != null) {
-            sortType.sort(itemList, sortDirection);
+            itemList.setSort(sortType, sortDirection);
         }
     }
 
@@ -434,7 +427,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
     @Nullable
     public List<IScrollableSlot> getQIOItemList() {
-        return searchQuery.isEmpty() ? itemList : searchList;
+        if (itemList == null) {
+            return null;
+        }
+        //Note: While a search is still being performed in the background this will be the results of the previous search
+        return searchQuery.isEmpty() ? itemList.getItems() : itemList.getSearchResults();
     }
 
     public long getCountCapacity() {
@@ -450,7 +447,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     }
 
     public int getTotalTypes() {
-        return itemList == null ? 0 : itemList.size();
+        return cachedInventory.size();
     }
 
     public byte getSelectedCraftingGrid() {
@@ -505,16 +502,9 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         if (level == null || !level.isClientSide() || itemList == null) {
             return;
         }
-        searchQuery = queryText;
-        searchList = searchCache.get(queryText);
-        if (searchList == null) {
-            searchList = new ArrayList<>();
-            ISearchQuery query = SearchQueryParser.parse(queryText);
-            for (IScrollableSlot slot : itemList) {
-                if (query.test(level, slot.item().getInternalStack())) {
-                    searchList.add(slot);
-                }
-            }
+        if (!searchQuery.equals(queryText)) {
+            searchQuery = queryText;
+            itemList.setSearch(queryText);
         }
     }
 
@@ -556,9 +546,6 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         }
     }
 
-    private record ItemSlotData(HashedItem item, UUID itemUUID, long count) implements IScrollableSlot {
-    }
-
     public enum SortDirection implements IToggleEnum<SortDirection> {
         ASCENDING(MekanismUtils.getResource(ResourceType.GUI, "arrow_up.png"), MekanismLang.LIST_SORT_ASCENDING_DESC),
         DESCENDING(MekanismUtils.getResource(ResourceType.GUI, "arrow_down.png"), MekanismLang.LIST_SORT_DESCENDING_DESC);
@@ -609,8 +596,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             this.descendingComparator = descendingComparator;
         }
 
-        public void sort(List<IScrollableSlot> list, SortDirection direction) {
-            list.sort(direction.isAscending() ? ascendingComparator : descendingComparator);
+        public Comparator<IScrollableSlot> getComparator(SortDirection direction) {
+            return direction.isAscending() ? ascendingComparator : descendingComparator;
         }
 
         @Override
@@ -0,0 +1,132 @@
+package mekanism.common.lib;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import mekanism.common.config.MekanismConfig;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shared cache of the entities found in areas that machines and multiblocks scan for entities every tick. Scans of the same area in the same tick reuse the result, and
+ * areas that were empty aren't scanned again for a few ticks unless an entity enters or spawns in one of the chunk sections near the area.
+ *
+ * @apiNote Lists returned by this cache are shared and must not be modified.
+ */
+public class EntityLookupCache {
+
+    //How far outside the area to check for sections entities entered, as entities in neighboring sections may have bounding boxes that overlap the area
+    private static final double SECTION_MARGIN = 2;
+
+    private static final Map<ResourceKey<Level>, LevelCache> caches = new Object2ObjectOpenHashMap<>();
+
+    private EntityLookupCache() {
+    }
+
+    public static <T extends Entity> List<T> getEntities(Level level, Class<T> type, AABB bounds) {
+        return getEntities(level, type, bounds, null);
+    }
+
+    public static <T extends Entity> List<T> getEntities(Level level, Class<T> type, AABB bounds, @Nullable Predicate<? super T> predicate) {
+        if (level.isClientSide()) {
+            return predicate == null ? level.getEntitiesOfClass(type, bounds) : level.getEntitiesOfClass(type, bounds, predicate);
+        }
+        return caches.computeIfAbsent(level.dimension(), dimension -> new LevelCache()).getEntities(level, type, bounds, predicate);
+    }
+
+    /**
+     * Marks the given section as having had an entity enter it, so that any cached empty areas near it are scanned again.
+     */
+    public static void onEntityEnteredSection(Level level, long section) {
+        if (!level.isClientSide()) {
+            LevelCache cache = caches.get(level.dimension());
+            if (cache != null) {
+                cache.changedSections.put(section, level.getGameTime());
+            }
+        }
+    }
+
+    /**
+     * Discards cached results that can no longer be reused.
+     */
+    public static void tick(Level level) {
+        LevelCache cache = caches.get(level.dimension());
+        if (cache != null) {
+            cache.prune(level.getGameTime());
+        }
+    }
+
+    public static void unload(Level level) {
+        caches.remove(level.dimension());
+    }
+
+    public static void reset() {
+        caches.clear();
+    }
+
+    private record Lookup(Class<?> type, AABB bounds, @Nullable Predicate<?> predicate) {
+    }
+
+    private record CachedEntities(List<?> entities, long scanTick) {
+    }
+
+    private static class LevelCache {
+
+        private final Map<Lookup, CachedEntities> lookups = new Object2ObjectOpenHashMap<>();
+        //Section -> last game tick an entity entered or spawned in the section
+        private final Long2LongMap changedSections = new Long2LongOpenHashMap();
+
+        @SuppressWarnings("unchecked")
+        private <T extends Entity> List<T> getEntities(Level level, Class<T> type, AABB bounds, @Nullable Predicate<? super T> predicate) {
+            long gameTime = level.getGameTime();
+            Lookup lookup = new Lookup(type, bounds, predicate);
+            CachedEntities cached = lookups.get(lookup);
+            if (cached != null && isValid(cached, bounds, gameTime)) {
+                return (List<T>) cached.entities();
+            }
+            List<T> entities = predicate == null ? level.getEntitiesOfClass(type, bounds) : level.getEntitiesOfClass(type, bounds, predicate);
+            entities = entities.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(entities);
+            lookups.put(lookup, new CachedEntities(entities, gameTime));
+            return entities;
+        }
+
+        private boolean isValid(CachedEntities cached, AABB bounds, long gameTime) {
+            if (cached.scanTick() == gameTime) {
+                return true;
+            } else if (!cached.entities().isEmpty() || gameTime - cached.scanTick() >= MekanismConfig.general.emptyEntityScanInterval.get()) {
+                //Entities may have moved, or it has been long enough that we want to check for entities that moved within the sections
+                return false;
+            }
+            int minX = SectionPos.posToSectionCoord(bounds.minX - SECTION_MARGIN);
+            int minY = SectionPos.posToSectionCoord(bounds.minY - SECTION_MARGIN);
+            int minZ = SectionPos.posToSectionCoord(bounds.minZ - SECTION_MARGIN);
+            int maxX = SectionPos.posToSectionCoord(bounds.maxX + SECTION_MARGIN);
+            int maxY = SectionPos.posToSectionCoord(bounds.maxY + SECTION_MARGIN);
+            int maxZ = SectionPos.posToSectionCoord(bounds.maxZ + SECTION_MARGIN);
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        if (changedSections.getOrDefault(SectionPos.asLong(x, y, z), -1) >= cached.scanTick()) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void prune(long gameTime) {
+            int interval = MekanismConfig.general.emptyEntityScanInterval.get();
+            lookups.values().removeIf(cached -> gameTime - cached.scanTick() >= interval);
+            changedSections.values().removeIf((long tick) -> gameTime - tick >= interval);
+        }
+    }
+}
\ No newline at end of file
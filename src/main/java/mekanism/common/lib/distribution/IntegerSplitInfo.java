@@ -9,13 +9,27 @@ public class IntegerSplitInfo extends SplitInfo<Integer> {
 
     public IntegerSplitInfo(int amountToSplit, int totalTargets) {
         super(totalTargets);
+        reset(amountToSplit, totalTargets);
+    }
+
+    /**
+     * Resets this split info so that it can be reused to split a new amount.
+     *
+     * @param amountToSplit Amount to split between the targets.
+     * @param totalTargets  Number of targets to split the contents among.
+     */
+    public void reset(int amountToSplit, int totalTargets) {
+        reset(totalTargets);
         this.amountToSplit = amountToSplit;
+        sentSoFar = 0;
         amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
         remainder = toSplitAmong == 0 ? 0 : amountToSplit % toSplitAmong;
     }
 
-    @Override
-    public void send(Integer amountNeeded) {
+    /**
+     * Primitive version of {@link #send(Integer)}.
+     */
+    public void sendInt(int amountNeeded) {
         //If we are giving it, then lower the amount we are checking/splitting
         amountToSplit -= amountNeeded;
         sentSoFar += amountNeeded;
@@ -42,14 +56,28 @@ public class IntegerSplitInfo extends SplitInfo<Integer> {
     }
 
     @Override
-    public Integer getShareAmount() {
+    public void send(Integer amountNeeded) {
+        sendInt(amountNeeded);
+    }
+
+    /**
+     * Primitive version of {@link #getShareAmount()}.
+     */
+    public int getShareAmountInt() {
         //TODO: Should we make this return a + 1 if there is a remainder, so that we can factor out those cases that can accept exactly amountPerTarget + 1
         // while doing our initial loop rather than handling it via getRemainderAmount?
         return amountPerTarget;
     }
 
     @Override
-    public Integer getRemainderAmount() {
+    public Integer getShareAmount() {
+        return getShareAmountInt();
+    }
+
+    /**
+     * Primitive version of {@link #getRemainderAmount()}.
+     */
+    public int getRemainderAmountInt() {
         if (toSplitAmong != 0 && remainder > 0) {
             //If we have a remainder, be willing to provide a single unit as the remainder
             // so that we split the remainder more evenly across the targets.
@@ -59,17 +87,36 @@ public class IntegerSplitInfo extends SplitInfo<Integer> {
     }
 
     @Override
-    public Integer getUnsent() {
+    public Integer getRemainderAmount() {
+        return getRemainderAmountInt();
+    }
+
+    /**
+     * Primitive version of {@link #getUnsent()}.
+     */
+    public int getUnsentInt() {
         return amountToSplit;
     }
 
+    @Override
+    public Integer getUnsent() {
+        return getUnsentInt();
+    }
+
     @Override
     public boolean isZero(Integer value) {
         return value == 0;
     }
 
+    /**
+     * Primitive version of {@link #getTotalSent()}.
+     */
+    public int getTotalSentInt() {
+        return sentSoFar;
+    }
+
     @Override
     public Integer getTotalSent() {
-        return sentSoFar;
+        return getTotalSentInt();
     }
 }
\ No newline at end of file
@@ -9,13 +9,27 @@ public class LongSplitInfo extends SplitInfo<Long> {
 
     public LongSplitInfo(long amountToSplit, int totalTargets) {
         super(totalTargets);
+        reset(amountToSplit, totalTargets);
+    }
+
+    /**
+     * Resets this split info so that it can be reused to split a new amount.
+     *
+     * @param amountToSplit Amount to split between the targets.
+     * @param totalTargets  Number of targets to split the contents among.
+     */
+    public void reset(long amountToSplit, int totalTargets) {
+        reset(totalTargets);
         this.amountToSplit = amountToSplit;
+        sentSoFar = 0;
         amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
         remainder = toSplitAmong == 0 ? 0 : amountToSplit % toSplitAmong;
     }
 
-    @Override
-    public void send(Long amountNeeded) {
+    /**
+     * Primitive version of {@link #send(Long)}.
+     */
+    public void sendLong(long amountNeeded) {
         //If we are giving it, then lower the amount we are checking/splitting
         amountToSplit -= amountNeeded;
         sentSoFar += amountNeeded;
@@ -42,12 +56,26 @@ public class LongSplitInfo extends SplitInfo<Long> {
     }
 
     @Override
-    public Long getShareAmount() {
+    public void send(Long amountNeeded) {
+        sendLong(amountNeeded);
+    }
+
+    /**
+     * Primitive version of {@link #getShareAmount()}.
+     */
+    public long getShareAmountLong() {
         return amountPerTarget;
     }
 
     @Override
-    public Long getRemainderAmount() {
+    public Long getShareAmount() {
+        return getShareAmountLong();
+    }
+
+    /**
+     * Primitive version of {@link #getRemainderAmount()}.
+     */
+    public long getRemainderAmountLong() {
         if (toSplitAmong != 0 && remainder > 0) {
             //If we have a remainder, be willing to provide a single unit as the remainder
             // so that we split the remainder more evenly across the targets.
@@ -57,17 +85,36 @@ public class LongSplitInfo extends SplitInfo<Long> {
     }
 
     @Override
-    public Long getUnsent() {
+    public Long getRemainderAmount() {
+        return getRemainderAmountLong();
+    }
+
+    /**
+     * Primitive version of {@link #getUnsent()}.
+     */
+    public long getUnsentLong() {
         return remainder;
     }
 
+    @Override
+    public Long getUnsent() {
+        return getUnsentLong();
+    }
+
     @Override
     public boolean isZero(Long value) {
         return value == 0;
     }
 
+    /**
+     * Primitive version of {@link #getTotalSent()}.
+     */
+    public long getTotalSentLong() {
+        return sentSoFar;
+    }
+
     @Override
     public Long getTotalSent() {
-        return sentSoFar;
+        return getTotalSentLong();
     }
 }
\ No newline at end of file
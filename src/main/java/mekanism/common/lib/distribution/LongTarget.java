@@ -0,0 +1,73 @@
+package mekanism.common.lib.distribution;
+
+/**
+ * Primitive specialization of {@link Target} for distributing long amounts. Unlike {@link Target} this does not box the amounts it is working with, or allocate any
+ * objects to keep track of which handlers still need more, which means that instances may be reused across ticks by calling {@link #clear()} between uses.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ * @param <EXTRA>   Any extra information this target may need to keep track of.
+ */
+public abstract class LongTarget<HANDLER, EXTRA> extends PrimitiveTarget<HANDLER, EXTRA, LongSplitInfo> {
+
+    protected LongTarget() {
+        this(8);
+    }
+
+    protected LongTarget(int expectedSize) {
+        super(expectedSize, new LongSplitInfo(0, 0));
+    }
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @param handler   Handler to give to.
+     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
+     *                  amount.
+     * @param extra     Any extra information such as the type of what is being sent.
+     * @param amount    Amount to give.
+     *
+     * @implNote Must call {@link LongSplitInfo#sendLong(long)} with the amount actually accepted.
+     */
+    protected abstract void acceptAmount(HANDLER handler, LongSplitInfo splitInfo, EXTRA extra, long amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param extra   Any extra information such as the type of what is being sent.
+     * @param amount  The total amount we are trying to send.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract long simulate(HANDLER handler, EXTRA extra, long amount);
+
+    @Override
+    protected final void resetSplit(LongSplitInfo splitInfo, long amountToSplit, int totalTargets) {
+        splitInfo.reset(amountToSplit, totalTargets);
+    }
+
+    @Override
+    protected final long getShareAmount(LongSplitInfo splitInfo) {
+        return splitInfo.getShareAmountLong();
+    }
+
+    @Override
+    protected final long getRemainderAmount(LongSplitInfo splitInfo) {
+        return splitInfo.getRemainderAmountLong();
+    }
+
+    @Override
+    protected final long getUnsent(LongSplitInfo splitInfo) {
+        return splitInfo.getUnsentLong();
+    }
+
+    @Override
+    protected final void accept(HANDLER handler, LongSplitInfo splitInfo, EXTRA extra, long amount) {
+        acceptAmount(handler, splitInfo, extra, amount);
+    }
+
+    @Override
+    protected final long simulateAccept(HANDLER handler, EXTRA extra, long amount) {
+        return simulate(handler, extra, amount);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package mekanism.common.lib.distribution;
+
+import it.unimi.dsi.fastutil.objects.Reference2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import mekanism.common.util.EmitUtils;
+
+/**
+ * Target that splits an amount between handlers based on how much each handler said it wanted ahead of time, instead of asking the handlers during the split. As
+ * planning never interacts with the handlers, {@link #plan()} may be called off the server thread, and the planned amounts then get given to the handlers on the server
+ * thread by {@link #execute(PlannedInsert)}.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ */
+public class PlannedTarget<HANDLER> extends LongTarget<HANDLER, Void> {
+
+    //Note: Handlers are compared by identity as they are the cached capability instances
+    private final Reference2LongMap<HANDLER> demands = new Reference2LongOpenHashMap<>();
+    private final Reference2LongLinkedOpenHashMap<HANDLER> planned = new Reference2LongLinkedOpenHashMap<>();
+    private long amountToSplit = -1;
+    private boolean isPlanned;
+
+    /**
+     * Clears any previous plan, and starts gathering demands for splitting the given amount.
+     */
+    public void start(long amountToSplit) {
+        clear();
+        this.amountToSplit = amountToSplit;
+    }
+
+    /**
+     * Adds a handler that wants the given amount of what is being split.
+     */
+    public void addDemand(HANDLER handler, long demand) {
+        if (demand > 0 && demands.put(handler, demand) == 0) {
+            //Only add the handler the first time, so that a handler that is connected on multiple sides doesn't get planned a share for each side
+            addHandler(handler);
+        }
+    }
+
+    /**
+     * Splits the amount passed to {@link #start(long)} between the handlers based on their demands.
+     *
+     * @implNote Does not interact with the handlers, and only modifies the state of this target.
+     */
+    public void plan() {
+        if (amountToSplit > 0) {
+            EmitUtils.sendToAcceptors(this, amountToSplit, null);
+        }
+        isPlanned = true;
+    }
+
+    /**
+     * @return {@code true} if a plan has been made for splitting the given amount.
+     */
+    public boolean isPlannedFor(long amount) {
+        return amountToSplit == amount && (isPlanned || handlers.isEmpty());
+    }
+
+    /**
+     * Gives each handler the amount that was planned for it, and then clears this target.
+     *
+     * @return The total amount the handlers actually accepted.
+     */
+    public long execute(PlannedInsert<HANDLER> insert) {
+        long sent = 0;
+        try {
+            for (Reference2LongMap.Entry<HANDLER> entry : planned.reference2LongEntrySet()) {
+                sent += insert.insert(entry.getKey(), entry.getLongValue());
+            }
+        } finally {
+            clear();
+        }
+        return sent;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        demands.clear();
+        planned.clear();
+        amountToSplit = -1;
+        isPlanned = false;
+    }
+
+    @Override
+    protected void acceptAmount(HANDLER handler, LongSplitInfo splitInfo, Void extra, long amount) {
+        planned.addTo(handler, amount);
+        splitInfo.sendLong(amount);
+    }
+
+    @Override
+    protected long simulate(HANDLER handler, Void extra, long amount) {
+        return Math.min(amount, demands.getLong(handler));
+    }
+
+    @FunctionalInterface
+    public interface PlannedInsert<HANDLER> {
+
+        /**
+         * Gives the handler the amount that was planned for it.
+         *
+         * @return The amount the handler actually accepted.
+         */
+        long insert(HANDLER handler, long amount);
+    }
+}
\ No newline at end of file
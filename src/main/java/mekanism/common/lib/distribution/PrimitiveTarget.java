@@ -0,0 +1,224 @@
+package mekanism.common.lib.distribution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shared implementation of the primitive specializations of {@link Target}. Amounts are tracked as longs, and subclasses only provide the primitive accessors for their
+ * split info and handlers. Unlike {@link Target} this does not box the amounts it is working with, or allocate any objects to keep track of which handlers still need
+ * more, which means that instances may be reused across ticks by calling {@link #clear()} between uses.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ * @param <EXTRA>   Any extra information this target may need to keep track of.
+ * @param <SPLIT>   The split info this target distributes with.
+ */
+public abstract class PrimitiveTarget<HANDLER, EXTRA, SPLIT extends SplitInfo<?>> {
+
+    /**
+     * Collection of handlers
+     */
+    protected final List<HANDLER> handlers;
+    private final SPLIT splitInfo;
+    /**
+     * Handlers that want more than we can/are willing to provide, with the corresponding index of {@link #neededAmounts} being the amount they want.
+     */
+    private Object[] neededHandlers;
+    private long[] neededAmounts;
+    private int neededCount;
+
+    protected PrimitiveTarget(int expectedSize, SPLIT splitInfo) {
+        this.handlers = new ArrayList<>(expectedSize);
+        this.splitInfo = splitInfo;
+        int neededSize = Math.max(1, expectedSize / 2);
+        this.neededHandlers = new Object[neededSize];
+        this.neededAmounts = new long[neededSize];
+    }
+
+    public void addHandler(HANDLER handler) {
+        handlers.add(handler);
+    }
+
+    public int getHandlerCount() {
+        return handlers.size();
+    }
+
+    /**
+     * Removes all handlers from this target so that it can be reused, and so that it doesn't keep references to any handlers after it is done.
+     */
+    public void clear() {
+        handlers.clear();
+        truncateNeeded(0);
+    }
+
+    /**
+     * Resets the split info of this target to start splitting the given amount between all the handlers this target has.
+     *
+     * @param amountToSplit The amount to split between all the handlers.
+     *
+     * @return The split info to use for distributing.
+     */
+    public SPLIT startSplit(long amountToSplit) {
+        truncateNeeded(0);
+        resetSplit(splitInfo, amountToSplit, handlers.size());
+        return splitInfo;
+    }
+
+    /**
+     * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
+     * needed if one ends up accepting less than it originally wanted.
+     *
+     * @param splitInfo Keeps track of the current amount sent and the default each one can get.
+     * @param extra     Any extra information such as the type of what is being sent.
+     *
+     * @see Target#sendRemainingSplit(SplitInfo)
+     */
+    public void sendRemainingSplit(SPLIT splitInfo, EXTRA extra) {
+        //If needed is not empty then we default it to the given calculated fair split amount of remaining energy
+        if (neededCount > 0 && getRemainderAmount(splitInfo) != 0) {
+            int kept = 0;
+            for (int i = 0; i < neededCount; i++) {
+                long remainderAmount = getRemainderAmount(splitInfo);
+                if (remainderAmount == 0) {
+                    //We finished inserting everything we wanted to, we can just exit
+                    return;
+                }
+                HANDLER handler = getNeededHandler(i);
+                //Accept the remaining amount
+                long amountNeeded = neededAmounts[i];
+                if (amountNeeded <= remainderAmount) {
+                    //If the amount we needed was the less than or the same as our remaining amount
+                    // we can remove the value as it has now been sent
+                    accept(handler, splitInfo, extra, amountNeeded);
+                } else {
+                    splitInfo.decrementTargets = false;
+                    accept(handler, splitInfo, extra, remainderAmount);
+                    splitInfo.decrementTargets = true;
+                    keepNeeded(kept++, handler, amountNeeded);
+                }
+            }
+            truncateNeeded(kept);
+            if (getUnsent(splitInfo) != 0) {
+                //If we still have some of a remainder after trying to evenly distribute the remainder just send it to the first target willing to accept it
+                for (int i = 0; i < neededCount; i++) {
+                    long remaining = getUnsent(splitInfo);
+                    if (remaining == 0) {
+                        //We finished, exit
+                        return;
+                    }
+                    accept(getNeededHandler(i), splitInfo, extra, remaining);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates how much each handler can take of toSend. If the amount requested is less than the amount per handler/target in splitInfo it immediately sends the
+     * requested amount to the handler.
+     *
+     * @param toSend    The total amount getting sent.
+     * @param extra     Any extra information such as the type of what is being sent.
+     * @param splitInfo Information about current overall split.
+     */
+    public void sendPossible(long toSend, EXTRA extra, SPLIT splitInfo) {
+        long shareAmount = getShareAmount(splitInfo);
+        for (int i = 0, size = handlers.size(); i < size; i++) {
+            HANDLER entry = handlers.get(i);
+            long amountNeeded = simulateAccept(entry, extra, toSend);
+            if (shareAmount == 0) {
+                //We are all remainder, just keep track of how much each can accept
+                if (amountNeeded != 0) {
+                    addNeeded(entry, amountNeeded);
+                }
+            } else if (amountNeeded <= getShareAmount(splitInfo)) {
+                //Add the amount, in case something changed from simulation only mark actual sent amount
+                // in split info
+                if (amountNeeded != 0) {
+                    //Note: We can skip actually running it if it doesn't need anything
+                    accept(entry, splitInfo, extra, amountNeeded);
+                }
+            } else {
+                addNeeded(entry, amountNeeded);
+            }
+        }
+    }
+
+    /**
+     * Rechecks to see if any of the needed amounts is able to fit under the new split and if so gives them the requested amount.
+     *
+     * @param splitInfo The new split to (re)check.
+     * @param extra     Any extra information such as the type of what is being sent.
+     */
+    public void shiftNeeded(SPLIT splitInfo, EXTRA extra) {
+        if (getShareAmount(splitInfo) == 0) {
+            return;
+        }
+        //Compact the needed values in place as we go, so that we don't have to copy anything or recheck the same values many times
+        int kept = 0;
+        for (int i = 0; i < neededCount; i++) {
+            HANDLER handler = getNeededHandler(i);
+            long amountNeeded = neededAmounts[i];
+            if (amountNeeded <= getShareAmount(splitInfo)) {
+                accept(handler, splitInfo, extra, amountNeeded);
+            } else {
+                keepNeeded(kept++, handler, amountNeeded);
+            }
+        }
+        truncateNeeded(kept);
+    }
+
+    /**
+     * Resets the given split info to split the given amount between the given number of targets.
+     */
+    protected abstract void resetSplit(SPLIT splitInfo, long amountToSplit, int totalTargets);
+
+    /**
+     * Primitive version of {@link SplitInfo#getShareAmount()}.
+     */
+    protected abstract long getShareAmount(SPLIT splitInfo);
+
+    /**
+     * Primitive version of {@link SplitInfo#getRemainderAmount()}.
+     */
+    protected abstract long getRemainderAmount(SPLIT splitInfo);
+
+    /**
+     * Primitive version of {@link SplitInfo#getUnsent()}.
+     */
+    protected abstract long getUnsent(SPLIT splitInfo);
+
+    /**
+     * Gives the handler the given amount, and marks the amount it actually accepted as sent in the split info.
+     */
+    protected abstract void accept(HANDLER handler, SPLIT splitInfo, EXTRA extra, long amount);
+
+    /**
+     * {@return the amount the handler is willing to accept of the given amount}
+     */
+    protected abstract long simulateAccept(HANDLER handler, EXTRA extra, long amount);
+
+    private void addNeeded(HANDLER handler, long amount) {
+        if (neededCount == neededAmounts.length) {
+            int newSize = Math.max(neededCount * 2, handlers.size());
+            neededHandlers = Arrays.copyOf(neededHandlers, newSize);
+            neededAmounts = Arrays.copyOf(neededAmounts, newSize);
+        }
+        neededHandlers[neededCount] = handler;
+        neededAmounts[neededCount++] = amount;
+    }
+
+    private void keepNeeded(int index, HANDLER handler, long amount) {
+        neededHandlers[index] = handler;
+        neededAmounts[index] = amount;
+    }
+
+    private void truncateNeeded(int newCount) {
+        Arrays.fill(neededHandlers, newCount, neededCount, null);
+        neededCount = newCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    private HANDLER getNeededHandler(int index) {
+        return (HANDLER) neededHandlers[index];
+    }
+}
\ No newline at end of file
@@ -1,11 +1,15 @@
 package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import mekanism.common.MekanismLang;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
+import mekanism.common.lib.math.voxel.VoxelCuboid.CuboidRelative;
 import mekanism.common.lib.math.voxel.VoxelCuboid.WallRelative;
 import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
@@ -144,6 +148,102 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return FormationResult.SUCCESS;
     }
 
+    @Override
+    public FormationResult revalidate(FormationProtocol<T> ctx, T structure, Collection<BlockPos> changed, Long2ObjectMap<ChunkAccess> chunkMap) {
+        //Check the changed positions against the known shape rather than searching for the shape again
+        loadCuboid(structure.getBounds());
+        Set<BlockPos> removedLocations = new ObjectOpenHashSet<>();
+        Set<BlockPos> removedInternals = new ObjectOpenHashSet<>();
+        for (BlockPos pos : changed) {
+            if (cuboid.getRelativeLocation(pos) == CuboidRelative.OUTSIDE) {
+                //Changes outside the structure can't affect it
+                continue;
+            }
+            Optional<BlockState> optionalState = WorldUtils.getBlockState(world, chunkMap, pos);
+            if (optionalState.isEmpty()) {
+                return FormationResult.FAIL;
+            }
+            BlockState state = optionalState.get();
+            StructureRequirement requirement = getStructureRequirement(pos);
+            if (requirement.isCasing()) {
+                //Note: This adds the position to the protocol's locations and valves if it is valid
+                FormationResult ret = validateFrame(ctx, pos, state, getCasingType(state), requirement.needsFrame());
+                if (ret.isFormed()) {
+                    if (!isSameFrame(structure, chunkMap, pos)) {
+                        //The casing was replaced, and the new block needs to become part of the structure
+                        return FormationResult.FAIL;
+                    }
+                } else if (requirement != StructureRequirement.IGNORED || ret.isNoIgnore()) {
+                    return ret;
+                } else {
+                    //Ignored positions that are no longer valid just stop being part of the structure
+                    removedLocations.add(pos.immutable());
+                }
+            } else if (state.isAir()) {
+                if (structure.internalLocations.contains(pos)) {
+                    //An internal block was removed
+                    removedInternals.add(pos.immutable());
+                }
+            } else if (!validateInner(state, chunkMap, pos)) {
+                return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_INNER, pos);
+            } else if (!structure.internalLocations.contains(pos) || !isSameInternal(structure, chunkMap, pos)) {
+                //An internal block was added or replaced
+                ctx.internalLocations.add(pos.immutable());
+            }
+        }
+        boolean internalsChanged = !ctx.internalLocations.isEmpty() || !removedInternals.isEmpty();
+        if (internalsChanged && !canRecheckInternals()) {
+            return FormationResult.FAIL;
+        }
+        //Everything that changed can be handled in place, update the structure to match
+        for (BlockPos pos : removedLocations) {
+            structure.locations.remove(pos);
+            structure.valves.removeIf(valve -> valve.location.equals(pos));
+        }
+        for (BlockPos pos : ctx.locations) {
+            structure.locations.add(pos);
+            //Remove the position as a valve if it is no longer one, while keeping the existing data of valves that didn't change
+            structure.valves.removeIf(valve -> valve.location.equals(pos) && !ctx.valves.contains(valve));
+        }
+        structure.valves.addAll(ctx.valves);
+        if (internalsChanged) {
+            structure.internalLocations.removeAll(removedInternals);
+            structure.internalLocations.addAll(ctx.internalLocations);
+            FormationResult result = postcheck(structure, chunkMap);
+            if (!result.isFormed()) {
+                return result;
+            }
+            structure.onInternalsChanged(world, ctx.internalLocations);
+        }
+        return FormationResult.SUCCESS;
+    }
+
+    /**
+     * Whether internal blocks being added or removed can be handled by {@link #revalidate(FormationProtocol, MultiblockData, Collection, Long2ObjectMap)} updating
+     * the structure's internal locations and running {@link #postcheck(MultiblockData, Long2ObjectMap)} again, rather than rebuilding the structure. This requires the
+     * postcheck to recompute everything it sets on the structure from the structure's internal locations, instead of adding to what it set before or depending on
+     * state collected by the validator while validating the entire structure.
+     */
+    protected boolean canRecheckInternals() {
+        return false;
+    }
+
+    /**
+     * Checks if the casing at the given position is still the one that was part of the structure when it formed, as a replaced block has a new tile.
+     */
+    private boolean isSameFrame(T structure, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
+        return WorldUtils.getTileEntity(world, chunkMap, pos) instanceof IMultiblockBase tile && tile.getMultiblockData(manager) == structure;
+    }
+
+    /**
+     * Checks if the internal block at the given position is still the one that was part of the structure when it formed. Internal blocks that have a tile are only
+     * considered the same if the tile still belongs to the structure, as a replaced block has a new tile.
+     */
+    private boolean isSameInternal(T structure, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
+        BlockEntity tile = WorldUtils.getTileEntity(world, chunkMap, pos);
+        return !(tile instanceof IInternalMultiblock internalMultiblock) || internalMultiblock.getMultiblock() == structure;
+    }
+
     protected StructureRequirement getStructureRequirement(BlockPos pos) {
         WallRelative relative = cuboid.getWallRelative(pos);
         if (relative.isOnEdge()) {
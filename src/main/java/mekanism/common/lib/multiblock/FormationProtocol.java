@@ -2,11 +2,12 @@ package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import mekanism.api.chemical.gas.GasStack;
@@ -70,6 +71,23 @@ public class FormationProtocol<T extends MultiblockData> {
         return result.isFormed() ? form(structure, idsFound) : fail(result);
     }
 
+    /**
+     * Re-checks only the positions of the given formed multiblock that have changed, so that the existing multiblock can be kept and updated in place without running
+     * the full protocol.
+     *
+     * @return {@code true} if the multiblock is still valid, {@code false} if the protocol needs to be run to rebuild it.
+     */
+    public boolean revalidate(T multiblock) {
+        if (multiblock.changedPositions.isEmpty()) {
+            return false;
+        }
+        IStructureValidator<T> validator = manager.createValidator();
+        validator.init(pointer.getLevel(), manager, structure);
+        FormationResult result = validator.revalidate(this, multiblock, multiblock.changedPositions, new Long2ObjectOpenHashMap<>());
+        multiblock.changedPositions.clear();
+        return result.isFormed();
+    }
+
     /**
      * Runs the protocol and updates all nodes that make a part of the multiblock.
      */
@@ -160,6 +178,9 @@ public class FormationProtocol<T extends MultiblockData> {
     @FunctionalInterface
     public interface FormationChecker<NODE> {
 
+        /**
+         * @param toCheck Mutable BlockPos, that should not be stored without first making it immutable
+         */
         boolean check(Level level, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos start, NODE node, BlockPos toCheck);
     }
 
@@ -172,22 +193,23 @@ public class FormationProtocol<T extends MultiblockData> {
             return 0;
         }
 
+        //Note: We track positions in their packed form so that we don't have to allocate an immutable BlockPos for every position we visit
         BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        Queue<BlockPos> openSet = new LinkedList<>();
-        Set<BlockPos> traversed = new ObjectOpenHashSet<>();
-        openSet.add(start);
-        traversed.add(start);
+        LongArrayFIFOQueue openSet = new LongArrayFIFOQueue();
+        LongSet traversed = new LongOpenHashSet();
+        long startPos = start.asLong();
+        openSet.enqueue(startPos);
+        traversed.add(startPos);
         while (!openSet.isEmpty()) {
-            BlockPos ptr = openSet.poll();
+            long ptr = openSet.dequeueLong();
             int traversedSize = traversed.size();
             if (traversedSize >= maxCount) {
                 return traversedSize;
             }
             for (Direction side : EnumUtils.DIRECTIONS) {
-                mutable.setWithOffset(ptr, side);
-                if (!traversed.contains(mutable) && checker.check(level, chunkMap, start, node, mutable)) {
-                    BlockPos offset = mutable.immutable();
-                    openSet.add(offset);
+                long offset = BlockPos.offset(ptr, side);
+                if (!traversed.contains(offset) && checker.check(level, chunkMap, start, node, mutable.set(offset))) {
+                    openSet.enqueue(offset);
                     traversed.add(offset);
                 }
             }
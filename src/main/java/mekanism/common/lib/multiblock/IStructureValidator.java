@@ -1,8 +1,10 @@
 package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.Collection;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 
@@ -16,5 +18,19 @@ public interface IStructureValidator<T extends MultiblockData> {
 
     FormationResult postcheck(T structure, Long2ObjectMap<ChunkAccess> chunkMap);
 
+    /**
+     * Re-checks only the given positions of an already formed structure, and updates the structure in place to match them if possible rather than rebuilding it.
+     *
+     * @param ctx       Protocol the positions are being checked for, used to collect the positions that were found to be valid.
+     * @param structure Formed structure to check.
+     * @param changed   Positions that changed since the structure was formed.
+     *
+     * @return {@link FormationResult#SUCCESS} if the structure is still valid after being updated for the given positions, or a failed result if the structure needs
+     * to be fully rebuilt.
+     */
+    default FormationResult revalidate(FormationProtocol<T> ctx, T structure, Collection<BlockPos> changed, Long2ObjectMap<ChunkAccess> chunkMap) {
+        return FormationResult.FAIL;
+    }
+
     IShape getShape();
 }
@@ -88,6 +88,11 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     @ContainerSync
     private boolean formed;
     public boolean recheckStructure;
+    /**
+     * Positions that have changed since the structure was last checked, so that the structure can be re-validated by only checking these positions rather than
+     * rebuilding the entire multiblock. This is only used on the server.
+     */
+    public final Set<BlockPos> changedPositions = new ObjectOpenHashSet<>();
 
     private int currentRedstoneLevel;
 
@@ -223,7 +228,29 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
                 structuralMultiblock.multiblockFormed(this);
             }
         }
+        capContents();
+        updateEjectors(world);
+        forceUpdateComparatorLevel();
+    }
+
+    /**
+     * Called when internal blocks were added to or removed from this formed structure without rebuilding it.
+     *
+     * @param added Positions of internal blocks that were added.
+     */
+    public void onInternalsChanged(Level world, Collection<BlockPos> added) {
+        for (BlockPos pos : added) {
+            BlockEntity tile = WorldUtils.getTileEntity(world, pos);
+            if (tile instanceof IInternalMultiblock internalMultiblock) {
+                internalMultiblock.setMultiblock(this);
+            }
+        }
+        //Changing the internal blocks may have changed our capacity
+        capContents();
+        markDirty();
+    }
 
+    private void capContents() {
         if (shouldCap(CacheSubstance.FLUID)) {
             for (IExtendedFluidTank tank : getFluidTanks(null)) {
                 tank.setStackSize(Math.min(tank.getFluidAmount(), tank.getCapacity()), Action.EXECUTE);
@@ -254,8 +281,6 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
                 container.setEnergy(Math.min(container.getEnergy(), container.getMaxEnergy()));
             }
         }
-        updateEjectors(world);
-        forceUpdateComparatorLevel();
     }
 
     protected void updateEjectors(Level world) {
@@ -289,6 +314,7 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         inventoryID = null;
         formed = false;
         recheckStructure = false;
+        changedPositions.clear();
     }
 
     public void meltdownHappened(Level world) {
@@ -440,6 +466,14 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         return isFormed() || isRemote() ? heatCapacitors : Collections.emptyList();
     }
 
+    /**
+     * Marks the structure as needing to be re-validated because of a change at the given position.
+     */
+    public void markChanged(BlockPos pos) {
+        recheckStructure = true;
+        changedPositions.add(pos.immutable());
+    }
+
     public boolean isKnownLocation(BlockPos pos) {
         return locations.contains(pos) || internalLocations.contains(pos);
     }
@@ -0,0 +1,122 @@
+package mekanism.common.lib.multiblock;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.config.MekanismConfig;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+/**
+ * Queues the formation of multiblock structures so that they can be formed within a per-tick time budget, instead of all at once when a lot of structures load at the
+ * same time. Structures closest to players are formed first. Queued structures stay unformed until they are formed, which leaves the caches of their contents in the
+ * {@link MultiblockManager} as they were.
+ */
+public class MultiblockFormationScheduler {
+
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    //Note: Keyed by structure so that a structure that changes again while it is queued is only formed once
+    private static final Map<Structure, BlockEntity> pending = new Reference2ObjectLinkedOpenHashMap<>();
+
+    private MultiblockFormationScheduler() {
+    }
+
+    /**
+     * Queues the given structure to be formed.
+     *
+     * @param structure Structure to form.
+     * @param tile      Node of the structure that requested the formation.
+     *
+     * @return {@code false} if formations aren't being deferred and the structure should be formed immediately.
+     */
+    public static <TILE extends BlockEntity & IMultiblockBase> boolean schedule(Structure structure, TILE tile) {
+        if (MekanismConfig.general.multiblockFormationBudget.get() == 0) {
+            return false;
+        }
+        pending.put(structure, tile);
+        return true;
+    }
+
+    /**
+     * Forms queued structures until this tick's time budget runs out.
+     */
+    public static void tick() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<PendingFormation> formations = new ArrayList<>(pending.size());
+        for (Map.Entry<Structure, BlockEntity> entry : pending.entrySet()) {
+            Structure structure = entry.getKey();
+            BlockEntity tile = entry.getValue();
+            if (tile.getLevel() == null || tile.isRemoved()) {
+                //The node that requested the formation was removed or unloaded, form the structure through another node of it instead
+                tile = structure.getLoadedNode();
+                if (tile == null) {
+                    //None of the nodes are loaded, the structure will be queued again once they load
+                    continue;
+                }
+            }
+            Level level = tile.getLevel();
+            if (level != null) {
+                formations.add(new PendingFormation(structure, tile, distanceToNearestPlayer(level, tile.getBlockPos())));
+            }
+        }
+        pending.clear();
+        formations.sort(Comparator.comparingDouble(PendingFormation::distance));
+        long budget = MekanismConfig.general.multiblockFormationBudget.get() * NANOS_PER_MILLI;
+        long start = System.nanoTime();
+        int formed = 0;
+        for (PendingFormation formation : formations) {
+            //Always form at least one structure each tick so that we make progress even if a single structure takes longer than the budget
+            if (formed > 0 && System.nanoTime() - start >= budget) {
+                //Out of time, queue the remaining structures for next tick
+                requeue(formation);
+                continue;
+            }
+            if (formation.form()) {
+                formed++;
+            }
+        }
+    }
+
+    private static void requeue(PendingFormation formation) {
+        pending.putIfAbsent(formation.structure(), formation.tile());
+    }
+
+    private static double distanceToNearestPlayer(Level level, BlockPos pos) {
+        double distance = Double.MAX_VALUE;
+        for (Player player : level.players()) {
+            distance = Math.min(distance, player.distanceToSqr(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5));
+        }
+        return distance;
+    }
+
+    public static void reset() {
+        pending.clear();
+    }
+
+    private record PendingFormation(Structure structure, BlockEntity tile, double distance) {
+
+        /**
+         * @return {@code true} if the structure still needed to be formed and the formation was run.
+         */
+        private boolean form() {
+            if (!structure.isValid()) {
+                //The structure was invalidated since it was queued, the nodes will be validated into a new structure that gets queued itself
+                return false;
+            }
+            IMultiblock<?> controller = structure.getController();
+            if (controller != null && controller.getStructure() != structure) {
+                //The structure was merged into another structure since it was queued, which will have been queued itself
+                return false;
+            }
+            structure.runUpdate((BlockEntity & IMultiblockBase) tile);
+            return true;
+        }
+    }
+}
\ No newline at end of file
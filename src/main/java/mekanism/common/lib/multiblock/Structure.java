@@ -22,6 +22,7 @@ import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public class Structure {
 
@@ -86,6 +87,19 @@ public class Structure {
         return nodes.get(pos);
     }
 
+    /**
+     * @return A node of this structure that is still loaded, or {@code null} if none of them are.
+     */
+    @Nullable
+    public BlockEntity getLoadedNode() {
+        for (IMultiblockBase node : nodes.values()) {
+            if (node instanceof BlockEntity tile && !tile.isRemoved() && tile.getLevel() != null && node.hasStructure(this)) {
+                return tile;
+            }
+        }
+        return null;
+    }
+
     public Int2ObjectSortedMap<VoxelPlane> getMinorAxisMap(Axis axis) {
         return minorPlaneMap.computeIfAbsent(axis, k -> new Int2ObjectRBTreeMap<>());
     }
@@ -109,13 +123,20 @@ public class Structure {
         updateTimestamp = tile.getLevel().getGameTime() - 1;
         didUpdate = false;
         invalidate(tile.getLevel());
-        tick(tile, tryValidate);
+        tick(tile, tryValidate, false);
     }
 
     public <TILE extends BlockEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate) {
+        tick(tile, tryValidate, true);
+    }
+
+    private <TILE extends BlockEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate, boolean deferUpdate) {
         if (!didUpdate && updateTimestamp == tile.getLevel().getGameTime() - 1) {
             didUpdate = true;
-            runUpdate(tile);
+            //Unless we need to update immediately, let the scheduler form the structure so that many structures loading at once don't all form in the same tick
+            if (!deferUpdate || !MultiblockFormationScheduler.schedule(this, tile)) {
+                runUpdate(tile);
+            }
         }
         if (tryValidate && !isValid()) {
             validate(tile, new Long2ObjectOpenHashMap<>());
@@ -1,11 +1,9 @@
 package mekanism.common.lib.radiation;
 
-import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table;
-import com.google.common.collect.Tables;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -56,7 +54,6 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
-import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.DamageType;
@@ -114,8 +111,14 @@ public class RadiationManager implements IRadiationManager {
 
     private boolean loaded;
 
-    private final Table<Chunk3D, GlobalPos, RadiationSource> radiationTable = HashBasedTable.create();
-    private final Table<Chunk3D, GlobalPos, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    //Note: Dimensions are removed when they no longer have any sources
+    private final Map<ResourceKey<Level>, RadiationSourceIndex> radiationSources = new Object2ObjectOpenHashMap<>();
+    /**
+     * Lazily built snapshot of the radiation sources for {@link #getRadiationSources()}, cleared when sources are added or removed. Callers that held onto a previous
+     * snapshot won't see those changes, which is documented on {@link IRadiationManager#getRadiationSources()}.
+     */
+    @Nullable
+    private Table<Chunk3D, GlobalPos, IRadiationSource> radiationView;
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
@@ -156,7 +159,7 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public double getRadiationLevel(Entity entity) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (radiationSources.isEmpty()) {//Short circuit when there are no radiation sources
             return BASELINE;
         }
         return getRadiationLevel(GlobalPos.of(entity.level().dimension(), entity.blockPosition()));
@@ -181,72 +184,70 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public Table<Chunk3D, GlobalPos, IRadiationSource> getRadiationSources() {
+        if (radiationView == null) {
+            ImmutableTable.Builder<Chunk3D, GlobalPos, IRadiationSource> builder = ImmutableTable.builder();
+            for (RadiationSourceIndex index : radiationSources.values()) {
+                index.forEach(source -> builder.put(new Chunk3D(source.getPos()), source.getPos(), source));
+            }
+            radiationView = builder.build();
+        }
         return radiationView;
     }
 
+    private void addSource(RadiationSource source) {
+        radiationSources.computeIfAbsent(source.getPos().dimension(), dimension -> new RadiationSourceIndex()).add(source);
+        radiationView = null;
+    }
+
+    private void onSourcesRemoved(ResourceKey<Level> dimension, RadiationSourceIndex index) {
+        if (index.isEmpty()) {
+            radiationSources.remove(dimension);
+        }
+        radiationView = null;
+        markDirty();
+        updateClientRadiationForAll(dimension);
+    }
+
     @Override
     public void removeRadiationSources(Chunk3D chunk) {
-        Map<GlobalPos, RadiationSource> chunkSources = radiationTable.row(chunk);
-        if (!chunkSources.isEmpty()) {
-            chunkSources.clear();
-            markDirty();
-            updateClientRadiationForAll(chunk.dimension);
+        RadiationSourceIndex index = radiationSources.get(chunk.dimension);
+        if (index != null && index.removeChunk(chunk)) {
+            onSourcesRemoved(chunk.dimension, index);
         }
     }
 
     @Override
     public void removeRadiationSource(GlobalPos pos) {
-        Chunk3D chunk = new Chunk3D(pos);
-        if (radiationTable.contains(chunk, pos)) {
-            radiationTable.remove(chunk, pos);
-            markDirty();
-            updateClientRadiationForAll(pos.dimension());
+        RadiationSourceIndex index = radiationSources.get(pos.dimension());
+        if (index != null && index.remove(pos.pos())) {
+            onSourcesRemoved(pos.dimension(), index);
         }
     }
 
     @Override
     public double getRadiationLevel(GlobalPos pos) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (radiationSources.isEmpty()) {//Short circuit when there are no radiation sources
             return BASELINE;
         }
         return getRadiationLevelAndMaxMagnitude(pos).level();
     }
 
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(Entity entity) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (radiationSources.isEmpty()) {//Short circuit when there are no radiation sources
             return LevelAndMaxMagnitude.BASELINE;
         }
         return getRadiationLevelAndMaxMagnitude(GlobalPos.of(entity.level().dimension(), entity.blockPosition()));
     }
 
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(GlobalPos pos) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        if (radiationSources.isEmpty()) {//Short circuit when there are no radiation sources
             return LevelAndMaxMagnitude.BASELINE;
         }
-        double level = BASELINE;
-        double maxMagnitude = BASELINE;
-        Chunk3D center = new Chunk3D(pos);
-        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
-        // we only compute exposure when within the MAX_RANGE bounds
-        double maxRange = Mth.square(radius * 16);
-        int minX = center.x - radius;
-        int maxX = center.x + radius;
-        int minZ = center.z - radius;
-        int maxZ = center.z + radius;
-        //Note: We inline the logic from Chunk3D#expand to avoid allocating a new hash set each time
-        for (int i = minX; i <= maxX; i++) {
-            for (int j = minZ; j <= maxZ; j++) {
-                Chunk3D chunk = new Chunk3D(center.dimension, i, j);
-                for (Map.Entry<GlobalPos, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                    if (entry.getKey().pos().distSqr(pos.pos()) <= maxRange) {
-                        RadiationSource source = entry.getValue();
-                        level += computeExposure(pos, source);
-                        maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                    }
-                }
-            }
+        RadiationSourceIndex index = radiationSources.get(pos.dimension());
+        if (index == null) {
+            return LevelAndMaxMagnitude.BASELINE;
         }
-        return new LevelAndMaxMagnitude(level, maxMagnitude);
+        return index.getExposure(pos.pos(), MekanismConfig.general.radiationChunkCheckRadius.get());
     }
 
     @Override
@@ -254,10 +255,10 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled()) {
             return;
         }
-        Map<GlobalPos, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(pos));
-        RadiationSource src = radiationSourceMap.get(pos);
+        RadiationSourceIndex index = radiationSources.get(pos.dimension());
+        RadiationSource src = index == null ? null : index.get(pos.pos());
         if (src == null) {
-            radiationSourceMap.put(pos, new RadiationSource(pos, magnitude));
+            addSource(new RadiationSource(pos, magnitude));
         } else {
             src.radiate(magnitude);
         }
@@ -317,17 +318,14 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void clearSources() {
-        if (!radiationTable.isEmpty()) {
-            radiationTable.clear();
+        if (!radiationSources.isEmpty()) {
+            radiationSources.clear();
+            radiationView = null;
             markDirty();
             updateClientRadiationForAll();
         }
     }
 
-    private double computeExposure(GlobalPos pos, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, pos.pos().distSqr(source.getPos().pos()));
-    }
-
     private double getRadiationResistance(LivingEntity entity) {
         double resistance = 0;
         for (EquipmentSlot type : EnumUtils.ARMOR_SLOTS) {
@@ -475,24 +473,28 @@ public class RadiationManager implements IRadiationManager {
 
     public void tickServer(boolean tickingNormally) {
         // terminate early if we're disabled or there is no radiation spots
-        if (!isRadiationEnabled() || radiationTable.isEmpty()) {
+        if (!isRadiationEnabled() || radiationSources.isEmpty()) {
             return;
         }
         // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
         if (RAND.nextInt(SharedConstants.TICKS_PER_SECOND) == 0) {
-            Collection<RadiationSource> sources = radiationTable.values();
-            if (!sources.isEmpty()) {
-                //Note: We have to wait until here to check if we are ticking normally, so that we still sync the radiation
-                // near the player if they are walking around while ticks are frozen
-                if (tickingNormally) {
-                    // remove if source gets too low
-                    sources.removeIf(RadiationSource::decay);
-                    //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
-                    markDirty();
+            //Note: We have to wait until here to check if we are ticking normally, so that we still sync the radiation
+            // near the player if they are walking around while ticks are frozen
+            if (tickingNormally) {
+                // remove if source gets too low
+                for (Iterator<RadiationSourceIndex> iterator = radiationSources.values().iterator(); iterator.hasNext(); ) {
+                    RadiationSourceIndex index = iterator.next();
+                    index.decay();
+                    if (index.isEmpty()) {
+                        iterator.remove();
+                    }
                 }
-                //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll();
+                radiationView = null;
+                //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
+                markDirty();
             }
+            //Update radiation levels for any players where it has changed
+            updateClientRadiationForAll();
         }
     }
 
@@ -511,8 +513,9 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void reset() {
-        //Clear the table directly instead of via the method, so it doesn't mark it as dirty
-        radiationTable.clear();
+        //Clear the sources directly instead of via the method, so it doesn't mark it as dirty
+        radiationSources.clear();
+        radiationView = null;
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -660,7 +663,7 @@ public class RadiationManager implements IRadiationManager {
             // don't sync the manager if radiation has been disabled
             if (IRadiationManager.INSTANCE.isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
-                    manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    manager.addSource(source);
                 }
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = manager.meltdowns.get(entry.getKey());
@@ -712,11 +715,11 @@ public class RadiationManager implements IRadiationManager {
         @NotNull
         @Override
         public CompoundTag save(@NotNull CompoundTag nbtTags, @NotNull HolderLookup.Provider provider) {
-            if (manager != null && !manager.radiationTable.isEmpty()) {
+            if (manager != null && !manager.radiationSources.isEmpty()) {
                 RegistryOps<Tag> registryOps = provider.createSerializationContext(NbtOps.INSTANCE);
                 ListTag list = new ListTag();
-                for (RadiationSource source : manager.radiationTable.values()) {
-                    list.add(source.write(registryOps));
+                for (RadiationSourceIndex index : manager.radiationSources.values()) {
+                    index.forEach(source -> list.add(source.write(registryOps)));
                 }
                 nbtTags.put(SerializationConstants.RADIATION_LIST, list);
             }
@@ -0,0 +1,271 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.lib.radiation.RadiationManager.LevelAndMaxMagnitude;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Spatial index of the radiation sources in a single dimension. Sources are stored per chunk in compact arrays keyed by the {@link ChunkPos#asLong() packed} chunk
+ * position. For each chunk exposure gets looked up in, the sources within range of that chunk are gathered into a single array that is cached until sources in the
+ * dimension are added or removed, so that looking up the exposure of any position in that chunk only has to go over those sources.
+ */
+@NothingNullByDefault
+class RadiationSourceIndex {
+
+    //Upper bound on how many chunks we cache the nearby sources of before just starting over, so that the cache can't grow forever if sources never change
+    private static final int MAX_CACHED_CHUNKS = 1_024;
+
+    private final Long2ObjectMap<ChunkSources> chunks = new Long2ObjectOpenHashMap<>();
+    //Chunk position -> sources within range of that chunk
+    private final Long2ObjectMap<NearbySources> nearbyCache = new Long2ObjectOpenHashMap<>();
+    private int cachedRadius = -1;
+    private int size;
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Nullable
+    public RadiationSource get(BlockPos pos) {
+        ChunkSources chunkSources = chunks.get(ChunkPos.asLong(pos));
+        return chunkSources == null ? null : chunkSources.get(pos.asLong());
+    }
+
+    public void add(RadiationSource source) {
+        BlockPos pos = source.getPos().pos();
+        ChunkSources chunkSources = chunks.computeIfAbsent(ChunkPos.asLong(pos), chunk -> new ChunkSources());
+        if (chunkSources.put(pos.asLong(), source)) {
+            size++;
+        }
+        onChanged();
+    }
+
+    public boolean remove(BlockPos pos) {
+        long chunk = ChunkPos.asLong(pos);
+        ChunkSources chunkSources = chunks.get(chunk);
+        if (chunkSources != null && chunkSources.remove(pos.asLong())) {
+            size--;
+            if (chunkSources.count == 0) {
+                chunks.remove(chunk);
+            }
+            onChanged();
+            return true;
+        }
+        return false;
+    }
+
+    public boolean removeChunk(ChunkPos chunk) {
+        ChunkSources chunkSources = chunks.remove(chunk.toLong());
+        if (chunkSources != null) {
+            size -= chunkSources.count;
+            onChanged();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Decays all the sources, removing any that have gotten too weak.
+     */
+    public void decay() {
+        int removed = 0;
+        for (ObjectIterator<ChunkSources> iterator = chunks.values().iterator(); iterator.hasNext(); ) {
+            ChunkSources chunkSources = iterator.next();
+            removed += chunkSources.decay();
+            if (chunkSources.count == 0) {
+                iterator.remove();
+            }
+        }
+        if (removed > 0) {
+            size -= removed;
+            onChanged();
+        }
+    }
+
+    /**
+     * Marks that sources were added or removed, so the cached nearby sources are no longer valid.
+     *
+     * @implNote Magnitudes are read from the sources whenever exposure is calculated, so changing the magnitude of a source doesn't require calling this.
+     */
+    private void onChanged() {
+        nearbyCache.clear();
+    }
+
+    public void forEach(Consumer<RadiationSource> consumer) {
+        for (ChunkSources chunkSources : chunks.values()) {
+            for (int i = 0; i < chunkSources.count; i++) {
+                consumer.accept(chunkSources.sources[i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the exposure at the given position from all the sources within the given radius of chunks.
+     */
+    public LevelAndMaxMagnitude getExposure(BlockPos pos, int chunkRadius) {
+        if (cachedRadius != chunkRadius) {
+            //The radius was changed in the config
+            nearbyCache.clear();
+            cachedRadius = chunkRadius;
+        }
+        int chunkX = SectionPos.blockToSectionCoord(pos.getX());
+        int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+        long chunk = ChunkPos.asLong(chunkX, chunkZ);
+        NearbySources nearby = nearbyCache.get(chunk);
+        if (nearby == null) {
+            if (nearbyCache.size() >= MAX_CACHED_CHUNKS) {
+                nearbyCache.clear();
+            }
+            nearby = gatherNearby(chunkX, chunkZ, chunkRadius);
+            nearbyCache.put(chunk, nearby);
+        }
+        double level = RadiationManager.BASELINE;
+        double maxMagnitude = RadiationManager.BASELINE;
+        // we only compute exposure when within the MAX_RANGE bounds
+        double maxRange = chunkRadius * 16 * chunkRadius * 16;
+        int x = pos.getX();
+        int y = pos.getY();
+        int z = pos.getZ();
+        for (int i = 0; i < nearby.positions.length; i++) {
+            long sourcePos = nearby.positions[i];
+            double dx = x - BlockPos.getX(sourcePos);
+            double dy = y - BlockPos.getY(sourcePos);
+            double dz = z - BlockPos.getZ(sourcePos);
+            double distSqr = dx * dx + dy * dy + dz * dz;
+            if (distSqr <= maxRange) {
+                double magnitude = nearby.sources[i].getMagnitude();
+                level += magnitude / Math.max(1, distSqr);
+                maxMagnitude = Math.max(maxMagnitude, magnitude);
+            }
+        }
+        return new LevelAndMaxMagnitude(level, maxMagnitude);
+    }
+
+    private NearbySources gatherNearby(int chunkX, int chunkZ, int chunkRadius) {
+        int total = 0;
+        for (int i = chunkX - chunkRadius; i <= chunkX + chunkRadius; i++) {
+            for (int j = chunkZ - chunkRadius; j <= chunkZ + chunkRadius; j++) {
+                ChunkSources chunkSources = chunks.get(ChunkPos.asLong(i, j));
+                if (chunkSources != null) {
+                    total += chunkSources.count;
+                }
+            }
+        }
+        if (total == 0) {
+            return NearbySources.EMPTY;
+        }
+        long[] positions = new long[total];
+        RadiationSource[] sources = new RadiationSource[total];
+        int index = 0;
+        for (int i = chunkX - chunkRadius; i <= chunkX + chunkRadius; i++) {
+            for (int j = chunkZ - chunkRadius; j <= chunkZ + chunkRadius; j++) {
+                ChunkSources chunkSources = chunks.get(ChunkPos.asLong(i, j));
+                if (chunkSources != null) {
+                    System.arraycopy(chunkSources.positions, 0, positions, index, chunkSources.count);
+                    System.arraycopy(chunkSources.sources, 0, sources, index, chunkSources.count);
+                    index += chunkSources.count;
+                }
+            }
+        }
+        return new NearbySources(positions, sources);
+    }
+
+    /**
+     * All the sources within range of a chunk, flattened from the chunks around it.
+     */
+    private record NearbySources(long[] positions, RadiationSource[] sources) {
+
+        private static final NearbySources EMPTY = new NearbySources(new long[0], new RadiationSource[0]);
+    }
+
+    /**
+     * Sources in a single chunk, with the packed positions stored alongside the sources so that checking the distance to them doesn't need to dereference the source.
+     */
+    private static class ChunkSources {
+
+        //Packed position -> index in the arrays
+        private final Long2IntMap indices = new Long2IntOpenHashMap();
+        private long[] positions = new long[2];
+        private RadiationSource[] sources = new RadiationSource[2];
+        private int count;
+
+        private ChunkSources() {
+            indices.defaultReturnValue(-1);
+        }
+
+        private int indexOf(long pos) {
+            return indices.get(pos);
+        }
+
+        @Nullable
+        private RadiationSource get(long pos) {
+            int index = indexOf(pos);
+            return index == -1 ? null : sources[index];
+        }
+
+        /**
+         * @return {@code true} if the source was added, {@code false} if it replaced an existing source.
+         */
+        private boolean put(long pos, RadiationSource source) {
+            int index = indexOf(pos);
+            if (index != -1) {
+                sources[index] = source;
+                return false;
+            }
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+                sources = Arrays.copyOf(sources, count * 2);
+            }
+            positions[count] = pos;
+            sources[count] = source;
+            indices.put(pos, count);
+            count++;
+            return true;
+        }
+
+        private boolean remove(long pos) {
+            int index = indexOf(pos);
+            if (index == -1) {
+                return false;
+            }
+            removeAt(index);
+            return true;
+        }
+
+        private void removeAt(int index) {
+            //Move the last source into the removed slot
+            indices.remove(positions[index]);
+            count--;
+            if (index != count) {
+                positions[index] = positions[count];
+                sources[index] = sources[count];
+                indices.put(positions[index], index);
+            }
+            sources[count] = null;
+        }
+
+        /**
+         * @return The number of sources that were removed.
+         */
+        private int decay() {
+            int removed = 0;
+            for (int i = count - 1; i >= 0; i--) {
+                if (sources[i].decay()) {
+                    removeAt(i);
+                    removed++;
+                }
+            }
+            return removed;
+        }
+    }
+}
\ No newline at end of file
@@ -198,12 +198,41 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return world;
     }
 
+    /**
+     * Called right before {@link #planUpdate()} and {@link #onUpdate()} when parallel network ticking is enabled, to collect what this network's acceptors want.
+     *
+     * @return {@code true} if {@link #planUpdate()} needs to be called before {@link #onUpdate()}.
+     *
+     * @apiNote Only called on the server thread
+     */
+    public boolean gatherUpdate() {
+        return false;
+    }
+
+    /**
+     * Plans what {@link #onUpdate()} will send to this network's acceptors based on what was collected by {@link #gatherUpdate()}. This may be called from a worker
+     * thread, so implementations must only touch state owned by this network, and must not interact with acceptors, transmitters, or the world.
+     *
+     * @apiNote Only called on the server side
+     */
+    public void planUpdate() {
+    }
+
     /**
      * @apiNote Only called on the server
      */
     public void onUpdate() {
     }
 
+    /**
+     * @return The amount this network sent to its acceptors during its last update.
+     *
+     * @apiNote Only used for profiling purposes, so the unit depends on the type of network.
+     */
+    public long getLastTickTransfer() {
+        return 0;
+    }
+
     public Collection<TRANSMITTER> getTransmitters() {
         return positionedTransmitters.values();
     }
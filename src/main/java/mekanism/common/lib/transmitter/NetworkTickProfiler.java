@@ -0,0 +1,133 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.content.network.transmitter.Transmitter;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Opt-in profiler that records how long each {@link DynamicNetwork} takes to update, so that the most expensive networks can be found without an external
+ * profiler.
+ */
+public class NetworkTickProfiler {
+
+    /**
+     * Number of ticks worth of samples to keep for each network.
+     */
+    public static final int SAMPLE_WINDOW = 5 * SharedConstants.TICKS_PER_SECOND;
+
+    private final Map<DynamicNetwork<?, ?, ?>, NetworkTickStats> stats = new Object2ObjectOpenHashMap<>();
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled != enabled) {
+            this.enabled = enabled;
+            //Clear any stale data, either we are starting a new profiling session or we no longer need the data
+            stats.clear();
+        }
+    }
+
+    public void clear() {
+        stats.clear();
+    }
+
+    void record(DynamicNetwork<?, ?, ?> network, long nanos) {
+        stats.computeIfAbsent(network, NetworkTickStats::new).record(nanos, network.getLastTickTransfer());
+    }
+
+    void remove(DynamicNetwork<?, ?, ?> network) {
+        stats.remove(network);
+    }
+
+    public int getProfiledNetworks() {
+        return stats.size();
+    }
+
+    /**
+     * @param count Maximum number of networks to return.
+     *
+     * @return The networks with the highest average update time, sorted from most to least expensive.
+     */
+    public List<NetworkTickStats> getMostExpensive(int count) {
+        List<NetworkTickStats> sorted = new ArrayList<>(stats.values());
+        sorted.sort(Comparator.comparingDouble(NetworkTickStats::getAverageNanos).reversed());
+        return sorted.size() > count ? sorted.subList(0, count) : sorted;
+    }
+
+    public static class NetworkTickStats {
+
+        private final DynamicNetwork<?, ?, ?> network;
+        private final long[] tickNanos = new long[SAMPLE_WINDOW];
+        private final long[] transferred = new long[SAMPLE_WINDOW];
+        private long totalNanos;
+        private long totalTransferred;
+        private int index;
+        private int samples;
+
+        private NetworkTickStats(DynamicNetwork<?, ?, ?> network) {
+            this.network = network;
+        }
+
+        private void record(long nanos, long transfer) {
+            //Remove the value we are about to overwrite from the running totals
+            totalNanos += nanos - tickNanos[index];
+            totalTransferred += transfer - transferred[index];
+            tickNanos[index] = nanos;
+            transferred[index] = transfer;
+            index = (index + 1) % SAMPLE_WINDOW;
+            if (samples < SAMPLE_WINDOW) {
+                samples++;
+            }
+        }
+
+        public DynamicNetwork<?, ?, ?> getNetwork() {
+            return network;
+        }
+
+        public int getSamples() {
+            return samples;
+        }
+
+        public double getAverageNanos() {
+            return samples == 0 ? 0 : totalNanos / (double) samples;
+        }
+
+        public long getP99Nanos() {
+            if (samples == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(tickNanos, samples);
+            Arrays.sort(sorted);
+            return sorted[Math.max(0, (int) Math.ceil(0.99 * samples) - 1)];
+        }
+
+        public double getAverageTransferred() {
+            return samples == 0 ? 0 : totalTransferred / (double) samples;
+        }
+
+        /**
+         * @return The position of an arbitrary transmitter in the network, or {@code null} if the network has no transmitters.
+         */
+        @Nullable
+        public GlobalPos getPosition() {
+            Level world = network.getWorld();
+            if (world != null) {
+                for (Transmitter<?, ?, ?> transmitter : network.getTransmitters()) {
+                    return GlobalPos.of(world.dimension(), transmitter.getBlockPos());
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import mekanism.common.Mekanism;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Updates networks in three phases so that splitting their contents between their acceptors can happen on a worker pool:
+ * <ol>
+ *     <li>{@link DynamicNetwork#gatherUpdate()} collects what each acceptor wants on the server thread.</li>
+ *     <li>{@link DynamicNetwork#planUpdate()} splits the network's contents based on that on the worker pool, without touching the acceptors.</li>
+ *     <li>{@link DynamicNetwork#onUpdate()} inserts the planned amounts into the acceptors on the server thread.</li>
+ * </ol>
+ * Networks that share acceptor positions are grouped together, and only one network of each group is updated per wave, so that a network never plans based on what
+ * an acceptor wanted before another network in the same wave inserted into it.
+ *
+ * @implNote Groups are only recalculated when networks are added, removed, or committed. If an acceptor changes between that, the worst that can happen is that a
+ * plan offers an acceptor more than it still wants, which is fine as insertion only ever moves what the acceptor actually accepts.
+ */
+public class ParallelNetworkTicker {
+
+    private final List<List<DynamicNetwork<?, ?, ?>>> groups = new ArrayList<>();
+    private final List<DynamicNetwork<?, ?, ?>> wave = new ArrayList<>();
+    private final List<DynamicNetwork<?, ?, ?>> toPlan = new ArrayList<>();
+    private boolean groupsDirty = true;
+    private int largestGroup;
+    @Nullable
+    private ForkJoinPool pool;
+
+    /**
+     * Marks that the set of networks or the acceptors of a network have changed, and that the groups need to be recalculated.
+     */
+    public void markDirty() {
+        groupsDirty = true;
+    }
+
+    public void update(Collection<DynamicNetwork<?, ?, ?>> networks, Consumer<DynamicNetwork<?, ?, ?>> updater) {
+        if (groupsDirty) {
+            rebuildGroups(networks);
+            groupsDirty = false;
+        }
+        try {
+            for (int index = 0; index < largestGroup; index++) {
+                for (List<DynamicNetwork<?, ?, ?>> group : groups) {
+                    if (index < group.size()) {
+                        wave.add(group.get(index));
+                    }
+                }
+                for (DynamicNetwork<?, ?, ?> network : wave) {
+                    if (network.gatherUpdate()) {
+                        toPlan.add(network);
+                    }
+                }
+                plan();
+                for (DynamicNetwork<?, ?, ?> network : wave) {
+                    updater.accept(network);
+                }
+                wave.clear();
+                toPlan.clear();
+            }
+        } finally {
+            wave.clear();
+            toPlan.clear();
+        }
+    }
+
+    private void plan() {
+        if (toPlan.size() <= 1) {
+            //Not worth dispatching to the pool
+            for (DynamicNetwork<?, ?, ?> network : toPlan) {
+                network.planUpdate();
+            }
+            return;
+        }
+        try {
+            getPool().submit(() -> toPlan.parallelStream().forEach(DynamicNetwork::planUpdate)).join();
+        } catch (RuntimeException e) {
+            //Any network that didn't finish planning will just fall back to its regular update
+            Mekanism.logger.error("Failed to plan transmitter network updates in parallel.", e);
+        }
+    }
+
+    private void rebuildGroups(Collection<DynamicNetwork<?, ?, ?>> networks) {
+        groups.clear();
+        largestGroup = 0;
+        int count = networks.size();
+        DynamicNetwork<?, ?, ?>[] indexed = new DynamicNetwork<?, ?, ?>[count];
+        int[] parents = new int[count];
+        Map<ResourceKey<Level>, Long2IntMap> acceptorOwners = new Object2ObjectOpenHashMap<>();
+        int index = 0;
+        for (DynamicNetwork<?, ?, ?> network : networks) {
+            indexed[index] = network;
+            parents[index] = index;
+            Level world = network.getWorld();
+            if (world != null) {
+                Long2IntMap owners = acceptorOwners.computeIfAbsent(world.dimension(), dimension -> {
+                    Long2IntMap map = new Long2IntOpenHashMap();
+                    map.defaultReturnValue(-1);
+                    return map;
+                });
+                for (Map.Entry<BlockPos, ?> entry : network.acceptorCache.getAcceptorEntrySet()) {
+                    int owner = owners.putIfAbsent(entry.getKey().asLong(), index);
+                    if (owner != -1) {
+                        //Another network already has an acceptor at this position, merge the groups
+                        union(parents, owner, index);
+                    }
+                }
+            }
+            index++;
+        }
+        Int2ObjectMap<List<DynamicNetwork<?, ?, ?>>> byRoot = new Int2ObjectOpenHashMap<>();
+        for (int i = 0; i < count; i++) {
+            byRoot.computeIfAbsent(find(parents, i), root -> new ArrayList<>()).add(indexed[i]);
+        }
+        for (List<DynamicNetwork<?, ?, ?>> group : byRoot.values()) {
+            groups.add(group);
+            largestGroup = Math.max(largestGroup, group.size());
+        }
+    }
+
+    private static int find(int[] parents, int index) {
+        while (parents[index] != index) {
+            //Path halving
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
+    }
+
+    private static void union(int[] parents, int a, int b) {
+        int rootA = find(parents, a);
+        int rootB = find(parents, b);
+        if (rootA != rootB) {
+            parents[rootB] = rootA;
+        }
+    }
+
+    private ForkJoinPool getPool() {
+        if (pool == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("Mekanism Network Worker-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, null, false);
+        }
+        return pool;
+    }
+
+    public void reset() {
+        groups.clear();
+        largestGroup = 0;
+        groupsDirty = true;
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+}
\ No newline at end of file
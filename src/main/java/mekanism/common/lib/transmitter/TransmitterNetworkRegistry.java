@@ -17,6 +17,7 @@ import java.util.UUID;
 import mekanism.api.Chunk3D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
@@ -45,6 +46,8 @@ public class TransmitterNetworkRegistry {
     private Map<GlobalPos, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    private final NetworkTickProfiler profiler = new NetworkTickProfiler();
+    private final ParallelNetworkTicker parallelTicker = new ParallelNetworkTicker();
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
@@ -79,6 +82,8 @@ public class TransmitterNetworkRegistry {
         getInstance().newOrphanTransmitters.clear();
         getInstance().transmitters.clear();
         getInstance().changedTicketChunks.clear();
+        getInstance().profiler.setEnabled(false);
+        getInstance().parallelTicker.reset();
     }
 
     public static void trackTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -114,13 +119,22 @@ public class TransmitterNetworkRegistry {
         return INSTANCE;
     }
 
+    public NetworkTickProfiler getProfiler() {
+        return profiler;
+    }
+
     public void registerNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.add(network);
+        if (networks.add(network)) {
+            parallelTicker.markDirty();
+        }
     }
 
     public void removeNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.remove(network);
+        if (networks.remove(network)) {
+            parallelTicker.markDirty();
+        }
         networksToChange.remove(network);
+        profiler.remove(network);
     }
 
     @SubscribeEvent
@@ -130,12 +144,26 @@ public class TransmitterNetworkRegistry {
         assignOrphans();
         commitChanges();
         if (event.getServer().tickRateManager().runsNormally()) {
-            for (DynamicNetwork<?, ?, ?> net : networks) {
-                net.onUpdate();
+            if (MekanismConfig.general.parallelNetworkTicking.get()) {
+                parallelTicker.update(networks, this::updateNetwork);
+            } else {
+                for (DynamicNetwork<?, ?, ?> net : networks) {
+                    updateNetwork(net);
+                }
             }
         }
     }
 
+    private void updateNetwork(DynamicNetwork<?, ?, ?> net) {
+        if (profiler.isEnabled()) {
+            long start = System.nanoTime();
+            net.onUpdate();
+            profiler.record(net, System.nanoTime() - start);
+        } else {
+            net.onUpdate();
+        }
+    }
+
     @SubscribeEvent
     public void onTicketLevelChange(ChunkTicketLevelUpdatedEvent event) {
         int newTicketLevel = event.getNewTicketLevel();
@@ -244,6 +272,8 @@ public class TransmitterNetworkRegistry {
             for (DynamicNetwork<?, ?, ?> network : networks) {
                 network.commit();
             }
+            //Committing may have changed which acceptors the networks have
+            parallelTicker.markDirty();
         }
     }
 
@@ -8,6 +8,7 @@ import java.util.EnumSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import net.minecraft.core.BlockPos;
@@ -18,21 +19,34 @@ public class NetworkAcceptorCache<ACCEPTOR> {
 
     private final Map<BlockPos, Map<Direction, ACCEPTOR>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    @Nullable
+    private SleepingAcceptorTracker<ACCEPTOR> sleepingAcceptors;
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         transmitter.refreshAcceptorConnections(side);
         ACCEPTOR acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : null;
         BlockPos acceptorPos = transmitter.getBlockPos().relative(side);
+        ACCEPTOR previous;
         if (acceptor == null) {
+            previous = null;
             Map<Direction, ACCEPTOR> cached = cachedAcceptors.get(acceptorPos);
             if (cached != null) {
-                cached.remove(side.getOpposite());
+                previous = cached.remove(side.getOpposite());
                 if (cached.isEmpty()) {
                     cachedAcceptors.remove(acceptorPos);
                 }
             }
         } else {
-            cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
+            previous = cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
+        }
+        if (sleepingAcceptors != null) {
+            //The connection changed, most likely from the capability being invalidated, so make sure we recheck the acceptor
+            if (previous != null) {
+                sleepingAcceptors.wake(previous);
+            }
+            if (acceptor != null) {
+                sleepingAcceptors.wake(acceptor);
+            }
         }
     }
 
@@ -78,6 +92,21 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     public void deregister() {
         cachedAcceptors.clear();
         changedAcceptors.clear();
+        if (sleepingAcceptors != null) {
+            sleepingAcceptors.wakeAll();
+        }
+    }
+
+    /**
+     * Gets the tracker for acceptors that keep refusing what the network offers them. Acceptors are automatically woken when their connection to the network changes.
+     *
+     * @param contentsVersion Used to create the tracker if it doesn't exist yet, see {@link SleepingAcceptorTracker#SleepingAcceptorTracker(ToLongFunction)}.
+     */
+    public SleepingAcceptorTracker<ACCEPTOR> getSleepingAcceptors(ToLongFunction<ACCEPTOR> contentsVersion) {
+        if (sleepingAcceptors == null) {
+            sleepingAcceptors = new SleepingAcceptorTracker<>(contentsVersion);
+        }
+        return sleepingAcceptors;
     }
 
     /**
@@ -0,0 +1,112 @@
+package mekanism.common.lib.transmitter.acceptor;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keeps track of acceptors that keep refusing everything a network offers them, so that the network can back off from simulating insertion into them every tick.
+ * Acceptors that refuse for consecutive ticks sleep for an exponentially growing number of ticks capped at the configured max, and are woken as soon as they accept
+ * anything, their connection to the network changes, or their contents change.
+ *
+ * @param <ACCEPTOR> Type of acceptor.
+ */
+public class SleepingAcceptorTracker<ACCEPTOR> {
+
+    /**
+     * Number of consecutive refusals before an acceptor starts being put to sleep.
+     */
+    private static final int REFUSALS_BEFORE_SLEEP = 2;
+    private static final int MAX_SLEEP_SHIFT = 16;
+
+    //Note: Acceptors are compared by identity as they are the cached capability instances
+    private final Reference2ObjectMap<ACCEPTOR, SleepState> states = new Reference2ObjectOpenHashMap<>();
+    private final ToLongFunction<ACCEPTOR> contentsVersion;
+    private long tick;
+    private int maxSleepTicks;
+
+    /**
+     * @param contentsVersion Gets a value that changes whenever the contents of an acceptor change in a way that may make it accept something again, for example how
+     *                        much it still needs. Sleeping acceptors are woken as soon as this changes, as acceptors don't notify networks when their contents change.
+     */
+    public SleepingAcceptorTracker(ToLongFunction<ACCEPTOR> contentsVersion) {
+        this.contentsVersion = contentsVersion;
+    }
+
+    /**
+     * Advances the tracker by a tick. Should be called once before the network starts checking acceptors for the tick.
+     *
+     * @param maxSleepTicks Maximum number of ticks an acceptor may sleep for, or zero to disable sleeping.
+     */
+    public void startTick(int maxSleepTicks) {
+        tick++;
+        this.maxSleepTicks = maxSleepTicks;
+        if (maxSleepTicks <= 0 && !states.isEmpty()) {
+            //Sleeping was disabled, wake everything up
+            states.clear();
+        }
+    }
+
+    /**
+     * @return {@code true} if the acceptor is sleeping and should not be offered anything this tick.
+     */
+    public boolean isSleeping(ACCEPTOR acceptor) {
+        if (maxSleepTicks <= 0 || states.isEmpty()) {
+            return false;
+        }
+        SleepState state = states.get(acceptor);
+        if (state == null || state.wakeTick <= tick) {
+            return false;
+        } else if (state.contentsVersion != contentsVersion.applyAsLong(acceptor)) {
+            //The contents of the acceptor changed since it last refused, wake it up so that we check if it accepts anything now
+            states.remove(acceptor);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Marks that the given acceptor refused everything it was offered this tick.
+     */
+    public void refused(ACCEPTOR acceptor) {
+        if (maxSleepTicks <= 0) {
+            return;
+        }
+        SleepState state = states.computeIfAbsent(acceptor, a -> new SleepState());
+        if (state.lastRefusal == tick) {
+            //Already counted this tick from another side
+            return;
+        }
+        state.lastRefusal = tick;
+        state.contentsVersion = contentsVersion.applyAsLong(acceptor);
+        state.refusals++;
+        if (state.refusals >= REFUSALS_BEFORE_SLEEP) {
+            int sleepTicks = (int) Math.min(maxSleepTicks, 1L << Math.min(state.refusals - REFUSALS_BEFORE_SLEEP, MAX_SLEEP_SHIFT));
+            state.wakeTick = tick + sleepTicks + 1;
+        }
+    }
+
+    /**
+     * Wakes the given acceptor, so that it gets offered contents again next time the network checks it.
+     */
+    public void wake(ACCEPTOR acceptor) {
+        if (!states.isEmpty()) {
+            states.remove(acceptor);
+        }
+    }
+
+    /**
+     * Wakes all acceptors.
+     */
+    public void wakeAll() {
+        states.clear();
+    }
+
+    private static class SleepState {
+
+        private long lastRefusal;
+        private long wakeTick;
+        private long contentsVersion;
+        private int refusals;
+    }
+}
\ No newline at end of file
@@ -1,7 +1,10 @@
 package mekanism.common.network.to_client.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import java.util.List;
 import mekanism.common.Mekanism;
+import mekanism.common.content.qio.QIOItemTypeDictionary;
+import mekanism.common.content.qio.QIOItemTypeDictionary.ItemEntry;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import net.minecraft.network.RegistryFriendlyByteBuf;
@@ -15,8 +18,8 @@ public class PacketBatchItemViewerSync extends PacketQIOItemViewerGuiSync {
     public static final CustomPacketPayload.Type<PacketBatchItemViewerSync> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("batch_qio_sync"));
     public static final StreamCodec<RegistryFriendlyByteBuf, PacketBatchItemViewerSync> STREAM_CODEC = streamCodec(PacketBatchItemViewerSync::new);
 
-    public PacketBatchItemViewerSync(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
-        super(countCapacity, typeCapacity, itemMap);
+    public PacketBatchItemViewerSync(long countCapacity, int typeCapacity, List<ItemEntry> entries) {
+        super(countCapacity, typeCapacity, entries);
     }
 
     @NotNull
@@ -27,6 +30,8 @@ public class PacketBatchItemViewerSync extends PacketQIOItemViewerGuiSync {
 
     @Override
     public void handle(IPayloadContext context) {
+        //Note: Always decode so that we learn any new types even if the viewer was closed before the packet arrived
+        Object2LongMap<UUIDAwareHashedItem> itemMap = QIOItemTypeDictionary.decode(entries);
         if (context.player().containerMenu instanceof QIOItemViewerContainer container) {
             container.handleBatchUpdate(itemMap, countCapacity, typeCapacity);
         }
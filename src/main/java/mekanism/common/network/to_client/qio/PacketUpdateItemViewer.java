@@ -1,7 +1,10 @@
 package mekanism.common.network.to_client.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import java.util.List;
 import mekanism.common.Mekanism;
+import mekanism.common.content.qio.QIOItemTypeDictionary;
+import mekanism.common.content.qio.QIOItemTypeDictionary.ItemEntry;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import net.minecraft.network.RegistryFriendlyByteBuf;
@@ -15,8 +18,8 @@ public class PacketUpdateItemViewer extends PacketQIOItemViewerGuiSync {
     public static final CustomPacketPayload.Type<PacketUpdateItemViewer> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_qio"));
     public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateItemViewer> STREAM_CODEC = streamCodec(PacketUpdateItemViewer::new);
 
-    public PacketUpdateItemViewer(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
-        super(countCapacity, typeCapacity, itemMap);
+    public PacketUpdateItemViewer(long countCapacity, int typeCapacity, List<ItemEntry> entries) {
+        super(countCapacity, typeCapacity, entries);
     }
 
     @NotNull
@@ -27,6 +30,8 @@ public class PacketUpdateItemViewer extends PacketQIOItemViewerGuiSync {
 
     @Override
     public void handle(IPayloadContext context) {
+        //Note: Always decode so that we learn any new types even if the viewer was closed before the packet arrived
+        Object2LongMap<UUIDAwareHashedItem> itemMap = QIOItemTypeDictionary.decode(entries);
         if (context.player().containerMenu instanceof QIOItemViewerContainer container) {
             container.handleUpdate(itemMap, countCapacity, typeCapacity);
         }
@@ -15,6 +15,7 @@ import mekanism.common.capabilities.holder.energy.IEnergyContainerHolder;
 import mekanism.common.entity.EntityRobit;
 import mekanism.common.integration.curios.CuriosIntegration;
 import mekanism.common.integration.energy.EnergyCompatUtils;
+import mekanism.common.lib.EntityLookupCache;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.MekanismUtils;
@@ -55,7 +56,7 @@ public class TileEntityChargepad extends TileEntityMekanism {
         boolean active = false;
         if (!energyContainer.isEmpty()) {
             //Use 0.4 for y to catch entities that are partially standing on the back pane
-            List<LivingEntity> entities = level.getEntitiesOfClass(LivingEntity.class, new AABB(worldPosition.getX(), worldPosition.getY(), worldPosition.getZ(),
+            List<LivingEntity> entities = EntityLookupCache.getEntities(level, LivingEntity.class, new AABB(worldPosition.getX(), worldPosition.getY(), worldPosition.getZ(),
                   worldPosition.getX() + 1, worldPosition.getY() + 0.4, worldPosition.getZ() + 1), CHARGE_PREDICATE);
             for (LivingEntity entity : entities) {
                 if (energyContainer.isEmpty()) {
@@ -1,5 +1,6 @@
 package mekanism.common.tile.laser;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import mekanism.api.Action;
@@ -19,6 +20,7 @@ import mekanism.common.capabilities.holder.energy.IEnergyContainerHolder;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.integration.computer.annotation.SyntheticComputerMethod;
 import mekanism.common.item.gear.ItemAtomicDisassembler;
+import mekanism.common.lib.EntityLookupCache;
 import mekanism.common.lib.math.Pos3D;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.PacketHitBlockEffect;
@@ -106,12 +108,14 @@ public abstract class TileEntityBasicLaser extends TileEntityMekanism {
 
             float laserEnergyScale = getEnergyScale(firing);
             long remainingEnergy = firing;
-            List<Entity> hitEntities = level.getEntitiesOfClass(Entity.class, getLaserBox(direction, from, to, laserEnergyScale));
+            List<Entity> hitEntities = EntityLookupCache.getEntities(level, Entity.class, getLaserBox(direction, from, to, laserEnergyScale));
             if (hitEntities.isEmpty()) {
                 setEmittingRedstone(false);
             } else {
                 setEmittingRedstone(true);
                 //Sort the entities in order of which one is closest to the laser
+                //Note: Copy the list as the cached list is shared
+                hitEntities = new ArrayList<>(hitEntities);
                 Pos3D finalFrom = from;
                 hitEntities.sort(Comparator.comparingDouble(entity -> entity.distanceToSqr(finalFrom)));
                 long energyPerDamage = MekanismConfig.general.laserEnergyPerDamage.get();
@@ -6,9 +6,13 @@ import mekanism.common.block.attribute.Attribute;
 import mekanism.common.capabilities.energy.MachineEnergyContainer;
 import mekanism.common.capabilities.holder.energy.EnergyContainerHelper;
 import mekanism.common.capabilities.holder.energy.IEnergyContainerHolder;
+import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.tier.InductionCellTier;
 import mekanism.common.tile.prefab.TileEntityInternalMultiblock;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.component.DataComponentMap;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
 
@@ -38,4 +42,25 @@ public class TileEntityInductionCell extends TileEntityInternalMultiblock {
     public MachineEnergyContainer<TileEntityInductionCell> getEnergyContainer() {
         return energyContainer;
     }
+
+    /**
+     * Writes any energy the matrix is holding in aggregate back to the cells, so that the energy stored in this cell is up to date.
+     */
+    private void flushMatrixEnergy() {
+        if (!isRemote() && getMultiblock() instanceof MatrixMultiblockData matrix) {
+            matrix.getEnergyContainer().flushToCells();
+        }
+    }
+
+    @Override
+    public void saveAdditional(@NotNull CompoundTag nbtTags, @NotNull HolderLookup.Provider provider) {
+        flushMatrixEnergy();
+        super.saveAdditional(nbtTags, provider);
+    }
+
+    @Override
+    protected void collectImplicitComponents(@NotNull DataComponentMap.Builder builder) {
+        flushMatrixEnergy();
+        super.collectImplicitComponents(builder);
+    }
 }
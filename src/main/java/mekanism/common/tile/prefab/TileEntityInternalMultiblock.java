@@ -70,7 +70,7 @@ public class TileEntityInternalMultiblock extends TileEntityMekanism implements
                 // then we mark the structure as needing to be re-validated
                 //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                 // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                multiblock.recheckStructure = true;
+                multiblock.markChanged(neighborPos);
             }
         }
     }
@@ -81,7 +81,7 @@ public class TileEntityInternalMultiblock extends TileEntityMekanism implements
         //If an internal multiblock is being removed then mark the multiblock it was in as needing to recheck the structure
         if (!isRemote() && hasFormedMultiblock() && multiblock != null) {
             //Multiblock shouldn't be null but validate it just in case
-            multiblock.recheckStructure = true;
+            multiblock.markChanged(getBlockPos());
         }
     }
 
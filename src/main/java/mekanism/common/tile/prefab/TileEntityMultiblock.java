@@ -115,8 +115,14 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
         T multiblock = getMultiblock();
         if (isMaster() && multiblock.isFormed() && multiblock.recheckStructure) {
             multiblock.recheckStructure = false;
-            getStructure().doImmediateUpdate(this, ticker % MekanismUtils.TICKS_PER_HALF_SECOND == 0);
-            multiblock = getMultiblock();
+            //Try to only check the positions that changed, and if that isn't enough to tell the multiblock is still valid, rebuild it
+            if (createFormationProtocol().revalidate(multiblock)) {
+                //The multiblock may have been updated in place, make sure clients get the changes
+                needsPacket = true;
+            } else {
+                getStructure().doImmediateUpdate(this, ticker % MekanismUtils.TICKS_PER_HALF_SECOND == 0);
+                multiblock = getMultiblock();
+            }
         }
         if (multiblock.isFormed()) {
             if (!prevStructure) {
@@ -351,7 +357,7 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
                     // then we mark the structure as needing to be re-validated
                     //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                     // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                    getStructure().markForUpdate(level, true);
+                    multiblock.markChanged(neighborPos);
                 }
             }
         }
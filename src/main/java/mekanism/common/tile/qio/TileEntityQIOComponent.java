@@ -153,5 +153,50 @@ public class TileEntityQIOComponent extends TileEntityMekanism implements IQIOFr
         QIOFrequency frequency = computerGetFrequency();
         frequency.setColor(frequency.getColor().getPrevious());
     }
+
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected. While loading, the items in drives that haven't finished loading can't be accessed")
+    boolean isFrequencyLoading() throws ComputerException {
+        return computerGetFrequency().isLoading();
+    }
+
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected. Counted over the last full second")
+    long getFrequencyInsertsPerSecond() throws ComputerException {
+        return computerGetFrequency().getThroughputStats().inserts();
+    }
+
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected. Counted over the last full second")
+    long getFrequencyExtractsPerSecond() throws ComputerException {
+        return computerGetFrequency().getThroughputStats().extracts();
+    }
+
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected. Counted over the last full second")
+    long getFrequencyItemsInsertedPerSecond() throws ComputerException {
+        return computerGetFrequency().getThroughputStats().itemsInserted();
+    }
+
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected. Counted over the last full second")
+    long getFrequencyItemsExtractedPerSecond() throws ComputerException {
+        return computerGetFrequency().getThroughputStats().itemsExtracted();
+    }
+
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected. Counted over the last full second, includes types added by drives being inserted")
+    long getFrequencyTypesAddedPerSecond() throws ComputerException {
+        return computerGetFrequency().getThroughputStats().typesAdded();
+    }
+
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected. Counted over the last full second, includes types removed by drives being removed")
+    long getFrequencyTypesRemovedPerSecond() throws ComputerException {
+        return computerGetFrequency().getThroughputStats().typesRemoved();
+    }
+
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected. Time in milliseconds the most recent save of the frequency's drives took")
+    double getFrequencyLastSaveTime() throws ComputerException {
+        return computerGetFrequency().getSaveStats().lastSaveNanos() / 1_000_000D;
+    }
+
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected. Average time in milliseconds saving the frequency's drives takes")
+    double getFrequencyAverageSaveTime() throws ComputerException {
+        return computerGetFrequency().getSaveStats().nanosPerSave() / 1_000_000D;
+    }
     //End methods IComputerTile
 }
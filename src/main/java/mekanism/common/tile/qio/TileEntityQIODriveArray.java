@@ -166,6 +166,37 @@ public class TileEntityQIODriveArray extends TileEntityQIOComponent implements I
         return DriveStatus.BY_ID.apply(driveStatus[slot]);
     }
 
+    @Nullable
+    private QIODriveData getDriveData(int slot) throws ComputerException {
+        validateSlot(slot);
+        QIOFrequency frequency = getQIOFrequency();
+        return frequency == null ? null : frequency.getDriveData(driveSlots.get(slot).getKey());
+    }
+
+    @ComputerMethod(methodDescription = "Returns zero if there is no drive in the slot or the drive is offline")
+    long getDriveItemCount(int slot) throws ComputerException {
+        QIODriveData data = getDriveData(slot);
+        return data == null ? 0 : data.getTotalCount();
+    }
+
+    @ComputerMethod(methodDescription = "Returns zero if there is no drive in the slot or the drive is offline")
+    double getDriveItemPercentage(int slot) throws ComputerException {
+        QIODriveData data = getDriveData(slot);
+        return data == null || data.getCountCapacity() == 0 ? 0 : data.getTotalCount() / (double) data.getCountCapacity();
+    }
+
+    @ComputerMethod(methodDescription = "Returns zero if there is no drive in the slot or the drive is offline")
+    int getDriveItemTypeCount(int slot) throws ComputerException {
+        QIODriveData data = getDriveData(slot);
+        return data == null ? 0 : data.getTotalTypes();
+    }
+
+    @ComputerMethod(methodDescription = "Returns zero if there is no drive in the slot or the drive is offline")
+    double getDriveItemTypePercentage(int slot) throws ComputerException {
+        QIODriveData data = getDriveData(slot);
+        return data == null || data.getTypeCapacity() == 0 ? 0 : data.getTotalTypes() / (double) data.getTypeCapacity();
+    }
+
     @ComputerMethod(methodDescription = "Requires a frequency to be selected")
     long getFrequencyItemCount() throws ComputerException {
         return computerGetFrequency().getTotalItemCount();
@@ -2,11 +2,9 @@ package mekanism.common.tile.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
@@ -23,12 +21,10 @@ import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.capabilities.item.CursedTransporterItemHandler;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase.PathCalculator;
+import mekanism.common.content.qio.QIOFilterViews;
+import mekanism.common.content.qio.QIOFilterViews.ViewFilter;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
-import mekanism.common.content.qio.filter.QIOFilter;
-import mekanism.common.content.qio.filter.QIOItemStackFilter;
-import mekanism.common.content.qio.filter.QIOModIDFilter;
-import mekanism.common.content.qio.filter.QIOTagFilter;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.integration.computer.ComputerException;
@@ -65,10 +61,11 @@ import org.jetbrains.annotations.Nullable;
 
 public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements IAdvancedTransportEjector {
 
-    private static final EfficientEjector<Object2LongMap.Entry<HashedItem>> FILTER_EJECTOR = new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getLongValue()),
-          (exporter, freq) -> exporter.getFilterEjectMap(freq).object2LongEntrySet());
-    private static final EfficientEjector<Map.Entry<HashedItem, QIOItemTypeData>> FILTERLESS_EJECTOR =
-          new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getValue().getCount()), (exporter, freq) -> freq.getItemDataMap().entrySet());
+    private static final EfficientEjector<QIOItemTypeData> FILTER_EJECTOR = new EfficientEjector<>(QIOItemTypeData::getItemType,
+          data -> MathUtils.clampToInt(data.getCount()),
+          (exporter, freq) -> freq.getFilterView(exporter.getViewFilters()));
+    private static final EfficientEjector<QIOItemTypeData> FILTERLESS_EJECTOR = new EfficientEjector<>(QIOItemTypeData::getItemType,
+          data -> MathUtils.clampToInt(data.getCount()), (exporter, freq) -> freq.getItemDataMap().values());
     private static final int MAX_DELAY = MekanismUtils.TICKS_PER_HALF_SECOND;
 
     @Nullable
@@ -78,6 +75,8 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements
     private boolean roundRobin;
     @Nullable
     private SidedBlockPos rrTarget;
+    @Nullable
+    private List<ViewFilter> viewFilters;
 
     public TileEntityQIOExporter(BlockPos pos, BlockState state) {
         super(MekanismBlocks.QIO_EXPORTER, pos, state);
@@ -139,25 +138,17 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements
         ejector.eject(this, freq, backHandler);
     }
 
-    private Object2LongMap<HashedItem> getFilterEjectMap(QIOFrequency freq) {
-        Object2LongMap<HashedItem> map = new Object2LongOpenHashMap<>();
-        for (QIOFilter<?> filter : getFilterManager().getEnabledFilters()) {
-            if (filter instanceof QIOItemStackFilter itemFilter) {
-                if (itemFilter.fuzzyMode) {
-                    map.putAll(freq.getStacksByItem(itemFilter.getItemStack().getItem()));
-                } else {
-                    HashedItem type = HashedItem.create(itemFilter.getItemStack());
-                    map.put(type, freq.getStoredByHash(type));
-                }
-            } else if (filter instanceof QIOTagFilter tagFilter) {
-                String tagName = tagFilter.getTagName();
-                map.putAll(freq.getStacksByTagWildcard(tagName));
-            } else if (filter instanceof QIOModIDFilter modIDFilter) {
-                String modID = modIDFilter.getModID();
-                map.putAll(freq.getStacksByModIDWildcard(modID));
-            }
+    private List<ViewFilter> getViewFilters() {
+        if (viewFilters == null) {
+            viewFilters = QIOFilterViews.toViewFilters(getFilterManager().getEnabledFilters());
         }
-        return map;
+        return viewFilters;
+    }
+
+    @Override
+    protected void onFiltersChanged() {
+        super.onFiltersChanged();
+        viewFilters = null;
     }
 
     @ComputerMethod
@@ -301,8 +292,8 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements
      * distribution based on a predetermined 'max eject attempt' constant to see if the ejection should take place. This makes sure we will eventually eject each item
      * type, but not attempt every item in the frequency each operation.
      * <p>
-     * Abstracting us away from the item map (using the type/count suppliers) allows us to interface directly with the entries of the QIO's item data map when running a
-     * filterless ejection, rather than recreating the whole map each ejection operation.
+     * Abstracting us away from the item map (using the type/count suppliers) allows us to interface directly with the QIO's item type data when running an
+     * ejection, rather than recreating the whole map each ejection operation.
      * <p>
      * Complexity: O(k * s), where 'k' is our max eject attempts constant and 's' is the size of the inventory.
      *
@@ -387,12 +378,21 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements
                     removed.mergeInt(type, toUse, Integer::sum);
                 }
             }
+            if (removed.isEmpty()) {
+                return;
+            }
             // actually remove the items from the QIO frequency
+            List<ItemStack> types = new ArrayList<>(removed.size());
+            long[] amounts = new long[removed.size()];
             for (Object2IntMap.Entry<HashedItem> entry : removed.object2IntEntrySet()) {
-                int amount = entry.getIntValue();
-                ItemStack ret = freq.removeByType(entry.getKey(), amount);
-                if (ret.getCount() != amount) {
-                    Mekanism.logger.error("QIO ejection item removal didn't line up with prediction: removed {}, expected {}", ret.getCount(), amount);
+                amounts[types.size()] = entry.getIntValue();
+                types.add(entry.getKey().getInternalStack());
+            }
+            long[] extracted = freq.massExtract(types, amounts, Action.EXECUTE);
+            for (int i = 0; i < extracted.length; i++) {
+                onItemsTransferred(extracted[i]);
+                if (extracted[i] != amounts[i]) {
+                    Mekanism.logger.error("QIO ejection item removal didn't line up with prediction: removed {}, expected {}", extracted[i], amounts[i]);
                 }
             }
         }
@@ -18,9 +18,14 @@ import org.jetbrains.annotations.NotNull;
 public class TileEntityQIOFilterHandler extends TileEntityQIOComponent implements ITileFilterHolder<QIOFilter<?>> {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private final SortableFilterManager<QIOFilter<?>> filterManager = new SortableFilterManager<QIOFilter<?>>((Class) QIOFilter.class, this::markForSave);
+    private final SortableFilterManager<QIOFilter<?>> filterManager = new SortableFilterManager<QIOFilter<?>>((Class) QIOFilter.class, () -> {
+        onFiltersChanged();
+        markForSave();
+    });
     private int maxTransitCount = 64;
     private int maxTransitTypes = 1;
+    // number of items moved since the block was loaded
+    private long itemsTransferred;
 
     public TileEntityQIOFilterHandler(IBlockProvider blockProvider, BlockPos pos, BlockState state) {
         super(blockProvider, pos, state);
@@ -53,6 +58,13 @@ public class TileEntityQIOFilterHandler extends TileEntityQIOComponent implement
     public void readSustainedData(HolderLookup.Provider provider, @NotNull CompoundTag dataMap) {
         super.readSustainedData(provider, dataMap);
         filterManager.readFromNBT(provider, dataMap);
+        onFiltersChanged();
+    }
+
+    /**
+     * Called when the filters of this filter handler change.
+     */
+    protected void onFiltersChanged() {
     }
 
     @Override
@@ -69,6 +81,10 @@ public class TileEntityQIOFilterHandler extends TileEntityQIOComponent implement
         return maxTransitTypes;
     }
 
+    protected void onItemsTransferred(long amount) {
+        itemsTransferred += amount;
+    }
+
     //Methods relating to IComputerTile
     @ComputerMethod
     Collection<QIOFilter<?>> getFilters() {
@@ -86,5 +102,10 @@ public class TileEntityQIOFilterHandler extends TileEntityQIOComponent implement
         validateSecurityIsPublic();
         return filterManager.removeFilter(filter);
     }
+
+    @ComputerMethod(methodDescription = "Total number of items moved since the block was loaded. Compare readings over time to find the busiest importers and exporters")
+    long getItemsTransferred() {
+        return itemsTransferred;
+    }
     //End methods IComputerTile
 }
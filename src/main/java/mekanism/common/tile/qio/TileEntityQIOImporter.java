@@ -1,14 +1,18 @@
 package mekanism.common.tile.qio;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import mekanism.api.Action;
 import mekanism.api.SerializationConstants;
 import mekanism.api.functions.ConstantPredicates;
 import mekanism.common.Mekanism;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.qio.QIOFrequency;
-import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.container.MekanismContainer;
@@ -94,9 +98,10 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
             return;
         }
         Set<HashedItem> typesAdded = new HashSet<>();
+        IntList importSlots = new IntArrayList();
+        List<ItemStack> toImport = new ArrayList<>();
         int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount(), countAdded = 0;
-
-        for (int i = slots - 1; i >= 0; i--) {
+        for (int i = slots - 1; i >= 0 && countAdded < maxCount; i--) {
             ItemStack stack = inventory.extractItem(i, maxCount - countAdded, true);
             if (stack.isEmpty()) {
                 continue;
@@ -110,14 +115,52 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
             if (!canFilter.test(stack)) {
                 continue;
             }
-            ItemStack used = TransporterManager.getToUse(stack, freq.addItem(stack));
-            ItemStack ret = inventory.extractItem(i, used.getCount(), false);
-            if (!InventoryUtils.areItemsStackable(used, ret) || used.getCount() != ret.getCount()) {
-                Mekanism.logger.error("QIO insertion error: item handler at {} in {} returned {} during simulated extraction, but returned {} during execution. This is wrong!",
-                      worldPosition.relative(getOppositeDirection()), level.dimension().location(), stack, ret);
-            }
+            importSlots.add(i);
+            toImport.add(stack);
             typesAdded.add(type);
-            countAdded += used.getCount();
+            countAdded += stack.getCount();
+        }
+        if (toImport.isEmpty()) {
+            return;
+        }
+        long[] amounts = new long[toImport.size()];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = toImport.get(i).getCount();
+        }
+        //Insert everything as a single operation so that the drives only get updated once, and then extract what was accepted from each slot
+        long[] inserted = freq.massInsert(toImport, amounts, Action.EXECUTE);
+        boolean hasExcess = false;
+        for (int i = 0; i < inserted.length; i++) {
+            amounts[i] = 0;
+            if (inserted[i] == 0) {
+                continue;
+            }
+            ItemStack stack = toImport.get(i);
+            ItemStack ret = inventory.extractItem(importSlots.getInt(i), (int) inserted[i], false);
+            int extracted = 0;
+            if (!ret.isEmpty()) {
+                if (InventoryUtils.areItemsStackable(stack, ret)) {
+                    extracted = ret.getCount();
+                    onItemsTransferred(extracted);
+                } else {
+                    Mekanism.logger.error("QIO insertion error: item handler at {} in {} returned {} during simulated extraction, but returned {} during execution. This is wrong!",
+                          worldPosition.relative(getOppositeDirection()), level.dimension().location(), stack, ret);
+                }
+            }
+            if (extracted < inserted[i]) {
+                //Some handlers back multiple slots with the same storage, which means there may be less left in a slot than we simulated extracting from it,
+                // so we need to remove what we couldn't actually extract from the frequency again to avoid duplicating items
+                amounts[i] = inserted[i] - extracted;
+                hasExcess = true;
+            }
+        }
+        if (hasExcess) {
+            long[] removed = freq.massExtract(toImport, amounts, Action.EXECUTE);
+            for (int i = 0; i < removed.length; i++) {
+                if (removed[i] != amounts[i]) {
+                    Mekanism.logger.error("QIO import excess removal didn't line up with prediction: removed {}, expected {}", removed[i], amounts[i]);
+                }
+            }
         }
     }
 
@@ -43,7 +43,7 @@ public final class CableUtils {
             }
         }
         if (target.getHandlerCount() > 0) {
-            return EmitUtils.sendToAcceptors(target, energyToSend, energyToSend);
+            return EmitUtils.sendToAcceptors(target, energyToSend, null);
         }
         return 0;
     }
@@ -1,11 +1,13 @@
 package mekanism.common.util;
 
+import mekanism.common.lib.distribution.IntTarget;
 import mekanism.common.lib.distribution.IntegerSplitInfo;
 import mekanism.common.lib.distribution.LongSplitInfo;
+import mekanism.common.lib.distribution.LongTarget;
 import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
 
-public class EmitUtils {//TODO: Make things work with primitives more directly rather than having to do the boxing and unboxing
+public class EmitUtils {
 
     private EmitUtils() {
     }
@@ -72,4 +74,54 @@ public class EmitUtils {//TODO: Make things work with primitives more directly r
     public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Long, EXTRA>> long sendToAcceptors(TARGET availableTargets, long amountToSplit, EXTRA toSend) {
         return sendToAcceptors(availableTargets, new LongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend);
     }
+
+    /**
+     * Primitive version of distributing that avoids boxing and allocating any objects to keep track of the distribution.
+     *
+     * @param <HANDLER>        The handler of our target.
+     * @param <EXTRA>          Any extra information we may need
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param amountToSplit    The amount to split between all the targets
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <HANDLER, EXTRA> int sendToAcceptors(IntTarget<HANDLER, EXTRA> availableTargets, int amountToSplit, EXTRA toSend) {
+        if (availableTargets.getHandlerCount() == 0) {
+            return 0;
+        }
+        IntegerSplitInfo splitInfo = availableTargets.startSplit(amountToSplit);
+        availableTargets.sendPossible(amountToSplit, toSend, splitInfo);
+        while (splitInfo.amountPerChanged) {
+            splitInfo.amountPerChanged = false;
+            availableTargets.shiftNeeded(splitInfo, toSend);
+        }
+        availableTargets.sendRemainingSplit(splitInfo, toSend);
+        return splitInfo.getTotalSentInt();
+    }
+
+    /**
+     * Primitive version of distributing that avoids boxing and allocating any objects to keep track of the distribution.
+     *
+     * @param <HANDLER>        The handler of our target.
+     * @param <EXTRA>          Any extra information we may need
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param amountToSplit    The amount to split between all the targets
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <HANDLER, EXTRA> long sendToAcceptors(LongTarget<HANDLER, EXTRA> availableTargets, long amountToSplit, EXTRA toSend) {
+        if (availableTargets.getHandlerCount() == 0) {
+            return 0;
+        }
+        LongSplitInfo splitInfo = availableTargets.startSplit(amountToSplit);
+        availableTargets.sendPossible(amountToSplit, toSend, splitInfo);
+        while (splitInfo.amountPerChanged) {
+            splitInfo.amountPerChanged = false;
+            availableTargets.shiftNeeded(splitInfo, toSend);
+        }
+        availableTargets.sendRemainingSplit(splitInfo, toSend);
+        return splitInfo.getTotalSentLong();
+    }
 }
\ No newline at end of file
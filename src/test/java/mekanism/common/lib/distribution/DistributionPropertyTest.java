@@ -1,6 +1,9 @@
 package mekanism.common.lib.distribution;
 
+import java.util.Iterator;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
 import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.PrimitiveIntegerTarget;
 import mekanism.common.util.EmitUtils;
 import net.jqwik.api.ForAll;
 import net.jqwik.api.Label;
@@ -36,4 +39,17 @@ class DistributionPropertyTest {
         IntegerTarget availableAcceptors = DistributionTest.getTargets(0, some, none);
         Assertions.assertTrue(EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend) <= toSend);
     }
+
+    @Property(tries = TRIES)
+    @Label("Test primitive distribution matches boxed distribution")
+    void testPrimitiveDistribution(@ForAll @IntRange(max = 100) int infinite, @ForAll @IntRange(max = 100) int some, @ForAll @IntRange(max = 100) int none,
+          @ForAll @Positive int toSend) {
+        IntegerTarget boxedAcceptors = DistributionTest.getTargets(infinite, some, none);
+        PrimitiveIntegerTarget primitiveAcceptors = DistributionTest.getPrimitiveTargets(infinite, some, none);
+        Assertions.assertEquals(EmitUtils.sendToAcceptors(boxedAcceptors, toSend, toSend), EmitUtils.sendToAcceptors(primitiveAcceptors, toSend, null));
+        Iterator<IntegerHandler> boxedHandlers = boxedAcceptors.handlers.iterator();
+        for (IntegerHandler handler : primitiveAcceptors.handlers) {
+            Assertions.assertEquals(boxedHandlers.next().getAccepted(), handler.getAccepted());
+        }
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package mekanism.common.lib.distribution;
 
 import java.util.Locale;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import mekanism.common.lib.distribution.handler.InfiniteIntegerHandler;
 import mekanism.common.lib.distribution.handler.IntegerHandler;
@@ -8,6 +9,9 @@ import mekanism.common.lib.distribution.handler.LyingAmountIntegerHandler;
 import mekanism.common.lib.distribution.handler.PartialIntegerHandler;
 import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
 import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.LongIntegerTarget;
+import mekanism.common.lib.distribution.target.PrimitiveIntegerTarget;
+import mekanism.common.lib.distribution.target.PrimitiveLongTarget;
 import mekanism.common.util.EmitUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +28,36 @@ class DistributionTest {
         return target;
     }
 
+    public static PrimitiveIntegerTarget getPrimitiveTargets(int infinite, int some, int none) {
+        PrimitiveIntegerTarget target = new PrimitiveIntegerTarget();
+        addTargets(target::addHandler, InfiniteIntegerHandler::new, infinite);
+        addTargets(target::addHandler, PartialIntegerHandler::new, some);
+        addTargets(target::addHandler, () -> new SpecificAmountIntegerHandler(0), none);
+        return target;
+    }
+
+    public static LongIntegerTarget getLongTargets(int infinite, int some, int none) {
+        LongIntegerTarget target = new LongIntegerTarget();
+        addTargets(target::addHandler, InfiniteIntegerHandler::new, infinite);
+        addTargets(target::addHandler, PartialIntegerHandler::new, some);
+        addTargets(target::addHandler, () -> new SpecificAmountIntegerHandler(0), none);
+        return target;
+    }
+
+    public static PrimitiveLongTarget getPrimitiveLongTargets(int infinite, int some, int none) {
+        PrimitiveLongTarget target = new PrimitiveLongTarget();
+        addTargets(target::addHandler, InfiniteIntegerHandler::new, infinite);
+        addTargets(target::addHandler, PartialIntegerHandler::new, some);
+        addTargets(target::addHandler, () -> new SpecificAmountIntegerHandler(0), none);
+        return target;
+    }
+
+    private static void addTargets(Consumer<IntegerHandler> targets, Supplier<IntegerHandler> targetSupplier, int count) {
+        for (int i = 0; i < count; i++) {
+            targets.accept(targetSupplier.get());
+        }
+    }
+
     private static void addTargets(IntegerTarget targets, Supplier<IntegerHandler> targetSupplier, int count) {
         for (int i = 0; i < count; i++) {
             targets.addHandler(targetSupplier.get());
@@ -134,4 +168,94 @@ class DistributionTest {
         Assertions.assertEquals(1, lyingHandler.getAccepted());
         Assertions.assertEquals(8, specificHandler.getAccepted());
     }
+
+    @Test
+    @DisplayName("Test to check if the remainder is able to be sent when having to fall back using primitive targets")
+    void testPrimitiveCorrectFallbackRemainder() {
+        int toSend = 9;
+        PrimitiveIntegerTarget availableAcceptors = new PrimitiveIntegerTarget();
+        IntegerHandler specificHandler = new SpecificAmountIntegerHandler(8);
+        IntegerHandler lyingHandler = new LyingAmountIntegerHandler(1, 10);
+        availableAcceptors.addHandler(specificHandler);
+        availableAcceptors.addHandler(lyingHandler);
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, null));
+        Assertions.assertEquals(1, lyingHandler.getAccepted());
+        Assertions.assertEquals(8, specificHandler.getAccepted());
+    }
+
+    @Test
+    @DisplayName("Test reusing a primitive target after clearing it")
+    void testPrimitiveTargetReuse() {
+        int toSend = 10;
+        PrimitiveIntegerTarget availableAcceptors = getPrimitiveTargets(0, 3, 0);
+        EmitUtils.sendToAcceptors(availableAcceptors, toSend, null);
+        availableAcceptors.clear();
+        Assertions.assertEquals(0, availableAcceptors.getHandlerCount());
+        addTargets(availableAcceptors::addHandler, InfiniteIntegerHandler::new, toSend);
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, null));
+        for (IntegerHandler handler : availableAcceptors.handlers) {
+            Assertions.assertEquals(1, handler.getAccepted());
+        }
+    }
+
+    @Test
+    @DisplayName("Test sending to non divisible amounts using long targets")
+    void testLongRemainderDistribution() {
+        long toSend = 10;
+        PrimitiveLongTarget availableAcceptors = getPrimitiveLongTargets(7, 0, 0);
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, null));
+        int singleAccepted = 0, twoAccepted = 0;
+        for (IntegerHandler handler : availableAcceptors.handlers) {
+            Assertions.assertTrue(handler.getAccepted() == 1 || handler.getAccepted() == 2);
+            if (handler.getAccepted() == 1) {
+                singleAccepted++;
+            } else {
+                twoAccepted++;
+            }
+        }
+        Assertions.assertEquals(4, singleAccepted);
+        Assertions.assertEquals(3, twoAccepted);
+    }
+
+    @Test
+    @DisplayName("Test sending to partial and full long targets")
+    void testLongMixedDistribution() {
+        long toSend = 100;
+        PrimitiveLongTarget availableAcceptors = getPrimitiveLongTargets(1, 2, 2);
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, null));
+        int accepted = 0;
+        for (IntegerHandler handler : availableAcceptors.handlers) {
+            accepted += handler.getAccepted();
+        }
+        Assertions.assertEquals(toSend, accepted);
+    }
+
+    @Test
+    @DisplayName("Test to check if the remainder is able to be sent when having to fall back using long targets")
+    void testLongCorrectFallbackRemainder() {
+        long toSend = 9;
+        PrimitiveLongTarget availableAcceptors = new PrimitiveLongTarget();
+        IntegerHandler specificHandler = new SpecificAmountIntegerHandler(8);
+        IntegerHandler lyingHandler = new LyingAmountIntegerHandler(1, 10);
+        availableAcceptors.addHandler(specificHandler);
+        availableAcceptors.addHandler(lyingHandler);
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, null));
+        Assertions.assertEquals(1, lyingHandler.getAccepted());
+        Assertions.assertEquals(8, specificHandler.getAccepted());
+    }
+
+    @Test
+    @DisplayName("Test reusing a long target after clearing it")
+    void testLongTargetReuse() {
+        long toSend = 10;
+        PrimitiveLongTarget availableAcceptors = getPrimitiveLongTargets(0, 3, 0);
+        EmitUtils.sendToAcceptors(availableAcceptors, toSend, null);
+        availableAcceptors.clear();
+        Assertions.assertEquals(0, availableAcceptors.getHandlerCount());
+        addTargets(availableAcceptors::addHandler, InfiniteIntegerHandler::new, (int) toSend);
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, null));
+        for (IntegerHandler handler : availableAcceptors.handlers) {
+            Assertions.assertEquals(1, handler.getAccepted());
+        }
+    }
 }
\ No newline at end of file
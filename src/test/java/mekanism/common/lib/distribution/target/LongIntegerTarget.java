@@ -0,0 +1,22 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.common.lib.distribution.SplitInfo;
+import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+
+public final class LongIntegerTarget extends Target<IntegerHandler, Long, Long> {
+
+    @Override
+    protected void acceptAmount(IntegerHandler integerHandler, SplitInfo<Long> splitInfo, Long amount) {
+        splitInfo.send((long) integerHandler.perform(clamp(amount), false));
+    }
+
+    @Override
+    protected Long simulate(IntegerHandler integerHandler, Long offered) {
+        return (long) integerHandler.perform(clamp(offered), true);
+    }
+
+    private static int clamp(long amount) {
+        return (int) Math.min(amount, Integer.MAX_VALUE);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.common.lib.distribution.IntTarget;
+import mekanism.common.lib.distribution.IntegerSplitInfo;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+
+public final class PrimitiveIntegerTarget extends IntTarget<IntegerHandler, Void> {
+
+    @Override
+    protected void acceptAmount(IntegerHandler integerHandler, IntegerSplitInfo splitInfo, Void extra, int amount) {
+        splitInfo.sendInt(integerHandler.perform(amount, false));
+    }
+
+    @Override
+    protected int simulate(IntegerHandler integerHandler, Void extra, int offered) {
+        return integerHandler.perform(offered, true);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.common.lib.distribution.LongSplitInfo;
+import mekanism.common.lib.distribution.LongTarget;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+
+public final class PrimitiveLongTarget extends LongTarget<IntegerHandler, Void> {
+
+    @Override
+    protected void acceptAmount(IntegerHandler integerHandler, LongSplitInfo splitInfo, Void extra, long amount) {
+        splitInfo.sendLong(integerHandler.perform(clamp(amount), false));
+    }
+
+    @Override
+    protected long simulate(IntegerHandler integerHandler, Void extra, long offered) {
+        return integerHandler.perform(clamp(offered), true);
+    }
+
+    private static int clamp(long amount) {
+        return (int) Math.min(amount, Integer.MAX_VALUE);
+    }
+}
\ No newline at end of file